@@ -24,7 +24,7 @@ public class ProductLikeFacade {
         User user = userDomainService.findUser(userId);
 
         ProductLikeInfo info = productLikeDomainService.likeProduct(user, productId);
-        invalidateCaches(productId);
+        invalidateCaches(productId, info.brandId());
 
         return ProductLikeDto.LikeResponse.from(info.liked(), info.totalLikes());
     }
@@ -33,7 +33,7 @@ public class ProductLikeFacade {
         User user = userDomainService.findUser(userId);
 
         ProductLikeInfo info = productLikeDomainService.unlikeProduct(user, productId);
-        invalidateCaches(productId);
+        invalidateCaches(productId, info.brandId());
 
         return ProductLikeDto.LikeResponse.from(info.liked(), info.totalLikes());
     }
@@ -49,13 +49,14 @@ public class ProductLikeFacade {
      *
      * 무효화 전략:
      * 1. 상세 캐시: 해당 상품의 detail 캐시 삭제
-     * 2. 목록 캐시: 전체 리스트 캐시 무효화 (totalLikes 필드 반영)
+     * 2. 목록 캐시: 좋아요순 목록만 무효화 (전체 + 해당 브랜드)
+     *    totalLikes 는 좋아요순 정렬 결과에만 영향을 주므로 최신순/가격순 목록은 유지합니다.
      *
      * 트랜잭션 내에서 실행되며, 이후 새로운 요청이 오면
      * 캐시 미스 시 DB에서 최신 데이터를 읽어 캐시에 저장합니다.
      */
-    private void invalidateCaches(Long productId) {
+    private void invalidateCaches(Long productId, Long brandId) {
         productCacheService.deleteProductDetail(productId);
-        productCacheService.invalidateProductListCaches();
+        productCacheService.invalidateLikesSortedListCaches(brandId);
     }
 }
@@ -1,5 +1,6 @@
 package com.loopers.application.order;
 
+import com.loopers.application.payment.CardPaymentExecutor;
 import com.loopers.application.payment.PaymentCompensationService;
 import com.loopers.application.stock.StockRecoveryService;
 import com.loopers.domain.coupon.Coupon;
@@ -29,10 +30,15 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -45,14 +51,41 @@ public class OrderFacade {
     private final PaymentDomainService paymentDomainService;
     private final PaymentStrategyFactory paymentStrategyFactory;
     private final PaymentCompensationService paymentCompensationService;
+    private final CardPaymentExecutor cardPaymentExecutor;
     private final StockRecoveryService stockRecoveryService;
     private final CouponDomainService couponDomainService;
     private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     @Transactional
     public OrderInfo createOrder(OrderCreateCommand command) {
         validateItem(command.items());
 
+        Map<Long, Long> quantities = new TreeMap<>();
+        for (OrderDto.OrderItemRequest itemRequest : command.items()) {
+            quantities.merge(itemRequest.productId(), itemRequest.quantity(), Long::sum);
+        }
+
+        Map<Long, Product> products = productDomainService.decreaseStocks(quantities).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        productCacheService.deleteProductDetails(quantities.keySet());
+
+        return placeOrder(command, products);
+    }
+
+    /**
+     * 재고가 이미 차감된 주문 생성
+     * <p>
+     * 주문 접수 큐가 같은 상품 주문을 모아 재고를 한 번에 차감한 뒤, 주문마다 호출합니다.
+     */
+    @Transactional
+    public OrderInfo createOrderWithAllocatedStock(OrderCreateCommand command, Product product) {
+        validateItem(command.items());
+        return placeOrder(command, Map.of(product.getId(), product));
+    }
+
+    private OrderInfo placeOrder(OrderCreateCommand command, Map<Long, Product> products) {
         List<OrderDto.OrderItemRequest> sortedItems = command.items().stream()
                 .sorted(Comparator.comparing(OrderDto.OrderItemRequest::productId))
                 .toList();
@@ -61,12 +94,7 @@ public class OrderFacade {
         List<OrderItem> orderItems = new ArrayList<>();
 
         for (OrderDto.OrderItemRequest itemRequest : sortedItems) {
-            Product product = productDomainService.decreaseStock(
-                    itemRequest.productId(),
-                    itemRequest.quantity()
-            );
-
-            productCacheService.deleteProductDetail(itemRequest.productId());
+            Product product = products.get(itemRequest.productId());
 
             totalAmount += product.getPrice() * itemRequest.quantity();
 
@@ -148,15 +176,19 @@ public class OrderFacade {
                                       Long orderId, Long paymentId, long discountAmount) {
         String userId = command.userId();
 
-        runAfterCommit(() -> {
-            try {
-                executeCardPayment(context);
-                publishCouponUsedEventDirectly(command, orderId, discountAmount);
-            } catch (Exception e) {
-                log.error("PG payment failed. orderId: {}, error: {}", orderId, e.getMessage(), e);
-                paymentCompensationService.compensateFailedPayment(userId, orderId, paymentId, e.getMessage());
-            }
-        });
+        runAfterCommit(() -> cardPaymentExecutor.execute(
+                () -> {
+                    try {
+                        executeCardPayment(context);
+                        publishCouponUsedEventDirectly(command, orderId, discountAmount);
+                    } catch (Exception e) {
+                        log.error("PG payment failed. orderId: {}, error: {}", orderId, e.getMessage(), e);
+                        paymentCompensationService.compensateFailedPayment(userId, orderId, paymentId, e.getMessage());
+                    }
+                },
+                () -> paymentCompensationService.compensateFailedPayment(
+                        userId, orderId, paymentId, "PG 요청 대기열이 가득 찼습니다.")
+        ));
     }
 
     private void executeCardPayment(PaymentContext context) {
@@ -176,8 +208,9 @@ public class OrderFacade {
         if (!command.hasCoupon()) {
             return;
         }
-        eventPublisher.publishEvent(
-                CouponUsedEvent.from(command.couponId(), orderId, command.userId(), discountAmount));
+        // 결제 스레드에는 트랜잭션이 없으므로, AFTER_COMMIT 리스너가 실행되도록 짧은 트랜잭션 안에서 발행
+        transactionTemplate.executeWithoutResult(status -> eventPublisher.publishEvent(
+                CouponUsedEvent.from(command.couponId(), orderId, command.userId(), discountAmount)));
     }
 
     private void publishOrderCompletedEvent(Order order) {
@@ -0,0 +1,343 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.product.ProductDomainService;
+import com.loopers.domain.product.StockAllocation;
+import com.loopers.infrastructure.cache.ProductCacheService;
+import com.loopers.interfaces.api.order.OrderDto;
+import com.loopers.support.concurrent.ThreadFactories;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주문 접수 큐 (그룹 커밋)
+ * <p>
+ * 한 상품에 주문이 몰리면 주문마다 상품 행 락을 잡고 줄을 서게 됩니다.
+ * 접수 큐는 단일 상품 주문을 상품별로 window-ms 동안 모아 재고를 한 트랜잭션에서 한 번에 차감하고,
+ * 재고를 받은 주문만 각자의 트랜잭션에서 주문/결제를 진행합니다.
+ * <p>
+ * - 재고가 배치 중간에 떨어지면 남은 주문은 재고 부족으로 실패합니다.
+ * - 주문/결제 단계에서 실패한 주문은 할당받은 재고를 돌려놓습니다.
+ * - timeout-ms 안에 처리되지 않은 주문은 취소 표시되어 배치가 건너뛰고, 이미 할당된 재고는 돌려놓습니다.
+ *   주문 생성이 이미 시작된 뒤라면 취소하지 않고 결과를 기다립니다 (성공한 주문을 실패로 알리지 않도록).
+ * - 여러 상품을 담은 주문과 비활성화 상태(order.intake.enabled=false)에서는 바로 OrderFacade 로 처리합니다.
+ */
+@Slf4j
+@Component
+public class OrderIntakeQueue {
+
+    private static final String BATCH_SIZE = "order.intake.batch.size";
+    private static final int ALLOCATION_ATTEMPTS = 3;
+
+    private final OrderFacade orderFacade;
+    private final ProductDomainService productDomainService;
+    private final ProductCacheService productCacheService;
+    private final TransactionTemplate transactionTemplate;
+    private final DistributionSummary batchSizeSummary;
+
+    private final boolean enabled;
+    private final long windowMs;
+    private final int maxBatchSize;
+    private final long timeoutMs;
+
+    private final Map<Long, Batch> pendingBatches = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService workers;
+
+    public OrderIntakeQueue(
+            OrderFacade orderFacade,
+            ProductDomainService productDomainService,
+            ProductCacheService productCacheService,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${order.intake.enabled:false}") boolean enabled,
+            @Value("${order.intake.window-ms:5}") long windowMs,
+            @Value("${order.intake.max-batch-size:100}") int maxBatchSize,
+            @Value("${order.intake.worker-threads:8}") int workerThreads,
+            @Value("${order.intake.timeout-ms:3000}") long timeoutMs,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.orderFacade = orderFacade;
+        this.productDomainService = productDomainService;
+        this.productCacheService = productCacheService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSizeSummary = DistributionSummary.builder(BATCH_SIZE).register(meterRegistry);
+        this.enabled = enabled;
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMs = timeoutMs;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(ThreadFactories.named("order-intake-scheduler", virtualThreads));
+        this.workers = Executors.newFixedThreadPool(workerThreads, ThreadFactories.named("order-intake", virtualThreads));
+    }
+
+    /**
+     * 주문 생성
+     * <p>
+     * 접수 큐를 거치는 경우 배치가 처리될 때까지 기다립니다.
+     */
+    public OrderInfo createOrder(OrderCreateCommand command) {
+        if (!enabled || !isSingleProduct(command)) {
+            return orderFacade.createOrder(command);
+        }
+
+        PendingOrder pendingOrder = submit(command);
+
+        try {
+            return await(pendingOrder);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CoreException(ErrorType.INTERNAL_ERROR, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pendingOrder.cancel();
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "주문 처리가 중단되었습니다.");
+        }
+    }
+
+    /**
+     * 배치 결과 대기
+     * <p>
+     * 시간 안에 끝나지 않으면 주문을 취소합니다. 이미 주문 생성이 시작돼 취소할 수 없으면 그 결과를 끝까지 기다립니다.
+     */
+    private OrderInfo await(PendingOrder pendingOrder) throws ExecutionException, InterruptedException {
+        try {
+            return pendingOrder.future().get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (pendingOrder.cancel()) {
+                throw new CoreException(ErrorType.INTERNAL_ERROR, "주문 처리 시간이 초과되었습니다.");
+            }
+            return pendingOrder.future().get();
+        }
+    }
+
+    /**
+     * 상품별 배치에 주문을 넣고 결과 future 를 반환
+     * <p>
+     * 배치의 첫 주문이 window-ms 뒤 처리를 예약하고, max-batch-size 에 도달하면 바로 처리합니다.
+     */
+    private PendingOrder submit(OrderCreateCommand command) {
+        Long productId = command.items().get(0).productId();
+        PendingOrder pendingOrder = new PendingOrder(command);
+
+        while (true) {
+            Batch batch = pendingBatches.computeIfAbsent(productId, id -> {
+                Batch created = new Batch(id);
+                scheduler.schedule(() -> flush(created), windowMs, TimeUnit.MILLISECONDS);
+                return created;
+            });
+
+            if (batch.add(pendingOrder, maxBatchSize)) {
+                if (batch.size() >= maxBatchSize) {
+                    flush(batch);
+                }
+                return pendingOrder;
+            }
+            // 이미 마감됐거나 가득 찬 배치는 맵에서 내리고 새 배치로 다시 시도
+            pendingBatches.remove(productId, batch);
+        }
+    }
+
+    private void flush(Batch batch) {
+        List<PendingOrder> orders = batch.close();
+        pendingBatches.remove(batch.productId, batch);
+
+        if (orders.isEmpty()) {
+            return;
+        }
+
+        workers.execute(() -> process(batch.productId, orders));
+    }
+
+    private void process(Long productId, List<PendingOrder> submitted) {
+        // 기다리다 취소된 주문은 재고를 할당하지 않음
+        List<PendingOrder> orders = submitted.stream()
+                .filter(order -> !order.isCancelled())
+                .toList();
+        if (orders.isEmpty()) {
+            return;
+        }
+        batchSizeSummary.record(orders.size());
+
+        StockAllocation allocation;
+        try {
+            List<Long> quantities = orders.stream()
+                    .map(order -> order.command().items().get(0).quantity())
+                    .toList();
+            allocation = allocate(productId, quantities);
+        } catch (Exception e) {
+            log.error("Order intake batch failed. productId: {}, size: {}", productId, orders.size(), e);
+            orders.forEach(order -> order.future().completeExceptionally(e));
+            return;
+        }
+
+        if (allocation.product() != null) {
+            productCacheService.deleteProductDetail(productId);
+        }
+
+        for (int i = 0; i < orders.size(); i++) {
+            PendingOrder order = orders.get(i);
+
+            if (!allocation.isAccepted(i)) {
+                order.future().completeExceptionally(new CoreException(ErrorType.BAD_REQUEST, "상품의 재고가 부족합니다."));
+                continue;
+            }
+
+            CompletableFuture.runAsync(() -> place(order, allocation), workers);
+        }
+    }
+
+    /**
+     * 재고 일괄 할당
+     * <p>
+     * 재고를 읽은 뒤 다른 주문이 먼저 차감해 실패하면, 새 스냅샷에서 재고를 다시 읽도록 새 트랜잭션에서 재시도합니다.
+     * 재시도가 모두 실패하면 배치의 모든 주문이 재고 부족으로 처리됩니다.
+     */
+    private StockAllocation allocate(Long productId, List<Long> quantities) {
+        for (int attempt = 0; attempt < ALLOCATION_ATTEMPTS; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> productDomainService.allocateStock(productId, quantities));
+            } catch (CoreException e) {
+                if (e.getErrorType() != ErrorType.BAD_REQUEST) {
+                    throw e;
+                }
+            }
+        }
+
+        return StockAllocation.none();
+    }
+
+    private void place(PendingOrder order, StockAllocation allocation) {
+        if (!order.startPlacing()) {
+            // 재고를 할당받는 사이 대기 시간이 끝나 취소된 주문
+            releaseStock(order);
+            return;
+        }
+
+        try {
+            order.future().complete(orderFacade.createOrderWithAllocatedStock(order.command(), allocation.product()));
+        } catch (Exception e) {
+            releaseStock(order);
+            order.future().completeExceptionally(e);
+        }
+    }
+
+    private void releaseStock(PendingOrder order) {
+        OrderDto.OrderItemRequest item = order.command().items().get(0);
+        try {
+            productDomainService.increaseStock(item.productId(), item.quantity());
+            productCacheService.deleteProductDetail(item.productId());
+        } catch (Exception e) {
+            log.error("Failed to release allocated stock. productId: {}, quantity: {}",
+                    item.productId(), item.quantity(), e);
+        }
+    }
+
+    private static boolean isSingleProduct(OrderCreateCommand command) {
+        List<OrderDto.OrderItemRequest> items = command.items();
+        return items != null && items.size() == 1 && items.get(0).productId() != null;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdown();
+        pendingBatches.values().forEach(this::flush);
+        workers.shutdown();
+    }
+
+    /**
+     * 접수된 주문 하나
+     * <p>
+     * 대기 중(WAITING)에서 주문 생성 시작(PLACING)과 취소(CANCELLED) 중 먼저 일어난 쪽만 성공합니다.
+     */
+    private static final class PendingOrder {
+
+        private static final int WAITING = 0;
+        private static final int PLACING = 1;
+        private static final int CANCELLED = 2;
+
+        private final OrderCreateCommand command;
+        private final CompletableFuture<OrderInfo> future = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        PendingOrder(OrderCreateCommand command) {
+            this.command = command;
+        }
+
+        OrderCreateCommand command() {
+            return command;
+        }
+
+        CompletableFuture<OrderInfo> future() {
+            return future;
+        }
+
+        boolean cancel() {
+            return state.compareAndSet(WAITING, CANCELLED);
+        }
+
+        boolean startPlacing() {
+            return state.compareAndSet(WAITING, PLACING);
+        }
+
+        boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+    }
+
+    /**
+     * 상품 하나의 접수 중인 주문 묶음
+     * <p>
+     * 마감(close) 이후에는 더 이상 주문을 받지 않습니다.
+     */
+    private static class Batch {
+
+        private final Long productId;
+        private final List<PendingOrder> orders = new ArrayList<>();
+        private boolean closed;
+
+        Batch(Long productId) {
+            this.productId = productId;
+        }
+
+        synchronized boolean add(PendingOrder order, int maxBatchSize) {
+            if (closed || orders.size() >= maxBatchSize) {
+                return false;
+            }
+            orders.add(order);
+            return true;
+        }
+
+        synchronized int size() {
+            return orders.size();
+        }
+
+        synchronized List<PendingOrder> close() {
+            if (closed) {
+                return List.of();
+            }
+            closed = true;
+            return new ArrayList<>(orders);
+        }
+    }
+}
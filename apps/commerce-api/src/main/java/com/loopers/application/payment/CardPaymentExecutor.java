@@ -0,0 +1,87 @@
+package com.loopers.application.payment;
+
+import com.loopers.support.concurrent.ThreadFactories;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카드 결제(PG 요청) 전용 실행기
+ * <p>
+ * PG 호출은 재시도 대기와 타임아웃 때문에 수 초까지 걸릴 수 있어, 요청 스레드(Tomcat 워커)에서 실행하면
+ * PG 가 느려질 때 워커가 모두 묶입니다. 카드 결제는 크기가 정해진 스레드 풀과 큐에서 실행하고,
+ * 큐가 가득 차면 받지 않고 호출한 쪽의 거절 처리(결제 보상)로 넘깁니다.
+ * <p>
+ * 큐 길이/활성 스레드는 executor.* 메트릭(name=pg-card-payment)으로, 큐 대기 시간과 거절 수는
+ * payment.card.executor.* 메트릭으로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class CardPaymentExecutor implements DisposableBean {
+
+    private static final String EXECUTOR_NAME = "pg-card-payment";
+    private static final String QUEUE_WAIT = "payment.card.executor.queue.wait";
+    private static final String REJECTED = "payment.card.executor.rejected";
+
+    private final ThreadPoolExecutor executor;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public CardPaymentExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${pg.payment-executor.threads:20}") int threads,
+            @Value("${pg.payment-executor.queue-capacity:200}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                ThreadFactories.named(EXECUTOR_NAME, virtualThreads),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        new ExecutorServiceMetrics(executor, EXECUTOR_NAME, Tags.empty()).bindTo(meterRegistry);
+        this.queueWaitTimer = meterRegistry.timer(QUEUE_WAIT);
+        this.rejectedCounter = meterRegistry.counter(REJECTED);
+    }
+
+    /**
+     * 카드 결제 작업 실행 요청
+     *
+     * @param payment    결제 작업 (실패 처리는 작업 안에서 수행)
+     * @param onRejected 큐가 가득 차 작업을 받지 못했을 때 호출 스레드에서 실행할 처리
+     */
+    public void execute(Runnable payment, Runnable onRejected) {
+        long enqueuedAt = System.nanoTime();
+
+        try {
+            executor.execute(() -> {
+                queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                payment.run();
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Card payment executor is full. active: {}, queued: {}",
+                    executor.getActiveCount(), executor.getQueue().size());
+            onRejected.run();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Card payment executor did not terminate. remaining: {}", executor.getQueue().size());
+        }
+    }
+}
@@ -71,17 +71,7 @@ public class PaymentFacade {
             log.info("Syncing payment status with PG. pgTransactionId: {}", payment.getPgTransactionId());
             PgTransactionDetail detail = pgTransactionService.getTransaction(userId, payment.getPgTransactionId());
 
-            PgStatus pgStatus = PgStatus.from(detail.getStatus());
-
-            if (pgStatus.isSuccess()) {
-                paymentDomainService.markAsSuccess(payment.getId(), payment.getPgTransactionId());
-                eventPublisher.publishEvent(PaymentCompletedEvent.from(payment));
-                log.info("Payment synced to SUCCESS. orderId: {}", orderId);
-            } else if (pgStatus.isFailed()) {
-                paymentDomainService.markAsFailed(payment.getId(), detail.getReason());
-                eventPublisher.publishEvent(PaymentFailedEvent.from(payment));
-                log.info("Payment synced to FAILED. orderId: {}", orderId);
-            }
+            applyPgResult(payment, detail);
 
             return paymentDomainService.getPaymentByOrderId(orderId);
         } catch (Exception e) {
@@ -91,6 +81,39 @@ public class PaymentFacade {
         }
     }
 
+    /**
+     * PG 조회 결과를 결제에 반영 (정합성 배치용)
+     * <p>
+     * 조회하는 사이 콜백으로 이미 처리됐을 수 있으므로 결제를 다시 읽어 PENDING 일 때만 반영합니다.
+     *
+     * @return 반영 후 결제 상태
+     */
+    @Transactional
+    public PaymentStatus reconcilePayment(Long orderId, PgTransactionDetail detail) {
+        Payment payment = paymentDomainService.getPaymentByOrderId(orderId);
+
+        if (payment.getStatus() != PaymentStatus.PENDING) {
+            return payment.getStatus();
+        }
+
+        applyPgResult(payment, detail);
+        return paymentDomainService.getPaymentByOrderId(orderId).getStatus();
+    }
+
+    private void applyPgResult(Payment payment, PgTransactionDetail detail) {
+        PgStatus pgStatus = PgStatus.from(detail.getStatus());
+
+        if (pgStatus.isSuccess()) {
+            paymentDomainService.markAsSuccess(payment.getId(), payment.getPgTransactionId());
+            eventPublisher.publishEvent(PaymentCompletedEvent.from(payment));
+            log.info("Payment synced to SUCCESS. orderId: {}", payment.getOrderId());
+        } else if (pgStatus.isFailed()) {
+            paymentDomainService.markAsFailed(payment.getId(), detail.getReason());
+            eventPublisher.publishEvent(PaymentFailedEvent.from(payment));
+            log.info("Payment synced to FAILED. orderId: {}", payment.getOrderId());
+        }
+    }
+
     private void validatePaymentOwner(Payment payment, String userId) {
         if (!payment.getUserId().equals(userId)) {
             throw new CoreException(ErrorType.NOT_FOUND, ErrorMessage.PAYMENT_ACCESS_DENIED);
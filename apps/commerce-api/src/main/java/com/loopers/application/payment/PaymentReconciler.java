@@ -0,0 +1,141 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.order.Payment;
+import com.loopers.domain.order.PaymentDomainService;
+import com.loopers.domain.order.PaymentStatus;
+import com.loopers.infrastructure.pg.PgAsyncClient;
+import com.loopers.infrastructure.pg.PgTransactionService;
+import com.loopers.infrastructure.pg.dto.PgTransactionDetail;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * PENDING 결제 정합성 배치
+ * <p>
+ * PG 콜백이 유실되면 결제가 PENDING 으로 남고, 사용자가 직접 상태 동기화를 호출하기 전까지 그대로입니다.
+ * 일정 시간 이상 PENDING 인 결제를 id 커서로 나눠 읽고, 배치 안에서는 동시 조회 수(parallelism)와
+ * 초당 조회 수(pgReconcile rate limiter)를 제한해 PG 를 조회합니다. 결과 반영은 스케줄러 스레드에서
+ * 한 건씩 PaymentFacade 를 통해 처리하므로 기존 성공/실패 이벤트가 그대로 발행됩니다.
+ * <p>
+ * 처리 결과는 payment.reconcile.results(result=success|failed|pending|rate_limited|error) 로 집계됩니다.
+ */
+@Slf4j
+@Component
+public class PaymentReconciler {
+
+    private static final String RATE_LIMITER = "pgReconcile";
+    private static final String RESULTS = "payment.reconcile.results";
+
+    private final PaymentDomainService paymentDomainService;
+    private final PgTransactionService pgTransactionService;
+    private final PaymentFacade paymentFacade;
+    private final MeterRegistry meterRegistry;
+    private final RateLimiter rateLimiter;
+    private final long pendingThresholdMinutes;
+    private final int batchSize;
+    private final int parallelism;
+
+    public PaymentReconciler(
+            PaymentDomainService paymentDomainService,
+            PgTransactionService pgTransactionService,
+            PaymentFacade paymentFacade,
+            MeterRegistry meterRegistry,
+            RateLimiterRegistry rateLimiterRegistry,
+            @Value("${payment.reconcile.pending-threshold-minutes:5}") long pendingThresholdMinutes,
+            @Value("${payment.reconcile.batch-size:100}") int batchSize,
+            @Value("${payment.reconcile.parallelism:10}") int parallelism) {
+        this.paymentDomainService = paymentDomainService;
+        this.pgTransactionService = pgTransactionService;
+        this.paymentFacade = paymentFacade;
+        this.meterRegistry = meterRegistry;
+        this.rateLimiter = rateLimiterRegistry.rateLimiter(RATE_LIMITER);
+        this.pendingThresholdMinutes = pendingThresholdMinutes;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+    }
+
+    @Scheduled(fixedDelayString = "${payment.reconcile.interval-ms:60000}")
+    public void reconcile() {
+        ZonedDateTime createdBefore = ZonedDateTime.now().minusMinutes(pendingThresholdMinutes);
+        long afterId = 0L;
+
+        while (true) {
+            List<Payment> payments = paymentDomainService.getPendingPaymentsBefore(createdBefore, afterId, batchSize);
+            if (payments.isEmpty()) {
+                return;
+            }
+
+            if (!reconcileBatch(payments)) {
+                return;
+            }
+
+            afterId = payments.get(payments.size() - 1).getId();
+            if (payments.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 한 배치를 동시에 조회한 뒤 순서대로 반영
+     *
+     * @return 계속 진행할 수 있으면 true (인터럽트되면 false)
+     */
+    private boolean reconcileBatch(List<Payment> payments) {
+        Semaphore inFlight = new Semaphore(parallelism);
+        Map<Payment, CompletableFuture<PgTransactionDetail>> lookups = new LinkedHashMap<>();
+        boolean interrupted = false;
+
+        for (Payment payment : payments) {
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                interrupted = true;
+                break;
+            }
+
+            if (!rateLimiter.acquirePermission()) {
+                inFlight.release();
+                record("rate_limited");
+                continue;
+            }
+
+            CompletableFuture<PgTransactionDetail> lookup =
+                    pgTransactionService.getTransactionAsync(payment.getUserId(), payment.getPgTransactionId());
+            lookup.whenComplete((detail, e) -> inFlight.release());
+            lookups.put(payment, lookup);
+        }
+
+        lookups.forEach(this::apply);
+        return !interrupted;
+    }
+
+    private void apply(Payment payment, CompletableFuture<PgTransactionDetail> lookup) {
+        try {
+            PgTransactionDetail detail = PgAsyncClient.await(lookup);
+            PaymentStatus status = paymentFacade.reconcilePayment(payment.getOrderId(), detail);
+            record(status.name().toLowerCase());
+        } catch (Exception e) {
+            record("error");
+            log.warn("Payment reconcile failed. orderId: {}, pgTransactionId: {}",
+                    payment.getOrderId(), payment.getPgTransactionId(), e);
+        }
+    }
+
+    private void record(String result) {
+        meterRegistry.counter(RESULTS, "result", result).increment();
+    }
+}
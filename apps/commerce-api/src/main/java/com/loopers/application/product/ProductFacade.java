@@ -3,19 +3,32 @@ package com.loopers.application.product;
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandDomainService;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductCursor;
+import com.loopers.domain.product.ProductCursorPage;
 import com.loopers.domain.product.ProductDomainService;
+import com.loopers.domain.product.ProductListItem;
 import com.loopers.domain.product.ProductSortType;
+import com.loopers.infrastructure.cache.CacheEntry;
+import com.loopers.infrastructure.cache.ProductCacheRefresher;
 import com.loopers.infrastructure.cache.ProductCacheService;
+import com.loopers.infrastructure.cache.ProductCountCache;
+import com.loopers.infrastructure.cache.ProductCountMode;
 import com.loopers.infrastructure.cache.ProductDetailCache;
+import com.loopers.infrastructure.cache.ProductListCacheKey;
+import com.loopers.infrastructure.cache.ProductListIds;
+import com.loopers.infrastructure.cache.SingleFlightCacheLoader;
 import com.loopers.infrastructure.event.ViewEventPublisher;
 import com.loopers.infrastructure.ranking.RankingRedisService;
 import com.loopers.interfaces.api.product.ProductDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -31,13 +44,18 @@ public class ProductFacade {
     private final ProductCacheService productCacheService;
     private final ViewEventPublisher viewEventPublisher;
     private final RankingRedisService rankingRedisService;
+    private final SingleFlightCacheLoader singleFlightCacheLoader;
+    private final ProductCacheRefresher productCacheRefresher;
+    private final ProductCountCache productCountCache;
 
     /**
      * 상품 목록 조회 (Cache-Aside 패턴)
      * <p>
      * 1. 캐시 조회
-     * 2. Cache Hit: 캐시된 상품 목록 직접 반환
-     * 3. Cache Miss: DB 조회 → 캐시 저장
+     * 2. Cache Hit: 캐시된 상품 목록 직접 반환 (만료 임박 시 백그라운드 조기 갱신)
+     * 3. Cache Miss: DB 조회 → 캐시 저장 (같은 키의 동시 미스는 한 번만 조회)
+     * <p>
+     * ID 목록 모드에서는 목록 캐시에 상품 ID만 두고, 상품 정보는 상세 캐시에서 채웁니다.
      */
     public ProductDto.ProductListResponse getProducts(
             Long brandId,
@@ -45,32 +63,211 @@ public class ProductFacade {
             int page,
             int size
     ) {
-        Optional<ProductDto.ProductListResponse> cachedResponse =
-                productCacheService.getProductListResponse(brandId, sort, page, size);
+        ProductListCacheKey cacheKey = productCacheService.resolveProductListKey(brandId, sort, page, size);
+
+        if (productCacheService.isIdListMode()) {
+            return getProductsByIdList(cacheKey);
+        }
+
+        Optional<CacheEntry<ProductDto.ProductListResponse>> cachedResponse =
+                productCacheService.getProductListEntry(cacheKey);
 
         if (cachedResponse.isPresent()) {
-            return cachedResponse.get();
+            if (cachedResponse.get().refreshAhead()) {
+                productCacheRefresher.refreshAsync(cacheKey.toRedisKey(), () -> loadProducts(cacheKey));
+            }
+            return cachedResponse.get().value();
         }
 
+        return singleFlightCacheLoader.load(
+                cacheKey.toRedisKey(),
+                () -> productCacheService.getProductListResponse(cacheKey),
+                () -> loadProducts(cacheKey)
+        );
+    }
+
+    /**
+     * 상품 목록 커서 조회
+     * <p>
+     * 커서마다 결과가 달라 캐시하지 않고 DB 인덱스를 바로 탑니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     */
+    public ProductDto.ProductCursorListResponse getProductsByCursor(
+            Long brandId,
+            String sort,
+            String cursor,
+            int size
+    ) {
         if (brandId != null) {
             brandDomainService.getActiveBrand(brandId);
         }
 
         ProductSortType sortType = ProductSortType.from(sort);
-        Page<Product> products = productDomainService.getProducts(brandId, sortType, page, size);
+        ProductCursor productCursor = cursor != null ? ProductCursor.decode(cursor, sortType) : null;
 
-        Set<Long> brandIds = products.getContent().stream()
-                .map(Product::getBrandId)
+        ProductCursorPage products = productDomainService.getProductsByCursor(brandId, sortType, productCursor, size);
+
+        return ProductDto.ProductCursorListResponse.from(products, getBrandMap(products.products()));
+    }
+
+    /**
+     * 목록 응답 DB 조회
+     * <p>
+     * 응답에 필요한 컬럼만 프로젝션으로 조회합니다.
+     */
+    private ProductDto.ProductListResponse loadProducts(ProductListCacheKey cacheKey) {
+        long startedAt = System.currentTimeMillis();
+        Long brandId = cacheKey.brandId();
+
+        if (brandId != null) {
+            brandDomainService.getActiveBrand(brandId);
+        }
+
+        ProductSortType sortType = ProductSortType.from(cacheKey.sort());
+        Slice<ProductListItem> items =
+                productDomainService.getProductListItems(brandId, sortType, cacheKey.page(), cacheKey.size());
+
+        Set<Long> brandIds = items.getContent().stream()
+                .map(ProductListItem::brandId)
                 .collect(Collectors.toSet());
         Map<Long, Brand> brandMap = brandDomainService.getBrandMap(brandIds);
 
-        ProductDto.ProductListResponse response = ProductDto.ProductListResponse.from(products, brandMap);
+        ProductDto.ProductListResponse response =
+                ProductDto.ProductListResponse.fromListItems(items, brandMap, resolveTotalCount(brandId, items));
 
-        productCacheService.setProductListResponse(brandId, sort, page, size, response);
+        productCacheService.setProductListResponse(cacheKey, response, System.currentTimeMillis() - startedAt);
 
         return response;
     }
 
+    /**
+     * ID 목록 캐시 기반 목록 조회
+     * <p>
+     * 상품 정보가 상세 캐시 한 곳에만 있으므로, 상품 하나가 바뀌어도 상세 캐시만 지우면 모든 목록에 반영됩니다.
+     */
+    private ProductDto.ProductListResponse getProductsByIdList(ProductListCacheKey cacheKey) {
+        Optional<CacheEntry<ProductListIds>> cachedIds = productCacheService.getProductListIdsEntry(cacheKey);
+
+        if (cachedIds.isPresent()) {
+            if (cachedIds.get().refreshAhead()) {
+                productCacheRefresher.refreshAsync(cacheKey.toIdsRedisKey(), () -> loadProductIds(cacheKey));
+            }
+            return hydrate(cachedIds.get().value());
+        }
+
+        return singleFlightCacheLoader.load(
+                cacheKey.toIdsRedisKey(),
+                () -> productCacheService.getProductListIdsEntry(cacheKey).map(entry -> hydrate(entry.value())),
+                () -> loadProductIds(cacheKey)
+        );
+    }
+
+    private ProductDto.ProductListResponse loadProductIds(ProductListCacheKey cacheKey) {
+        long startedAt = System.currentTimeMillis();
+        Slice<Product> products = findProductPage(cacheKey);
+        Map<Long, Brand> brandMap = getBrandMap(products.getContent());
+
+        ProductDto.ProductListResponse response =
+                ProductDto.ProductListResponse.from(products, brandMap, resolveTotalCount(cacheKey.brandId(), products));
+        long elapsed = System.currentTimeMillis() - startedAt;
+
+        // 페이지 상품의 상세 캐시도 함께 채워 다음 조회가 DB 없이 조립되도록 함
+        productCacheService.setProductDetails(toDetailCaches(products.getContent(), brandMap), elapsed);
+
+        List<Long> productIds = products.getContent().stream().map(Product::getId).toList();
+        productCacheService.setProductListIds(
+                cacheKey,
+                new ProductListIds(productIds, response.totalCount(), response.hasNext()),
+                elapsed
+        );
+
+        return response;
+    }
+
+    /**
+     * 캐시된 ID 목록으로 응답 조립
+     * <p>
+     * 상세 캐시를 한 번에 조회하고, 빠진 상품만 DB에서 일괄 조회해 상세 캐시를 채웁니다.
+     * 그 사이 삭제된 상품은 목록에서 제외됩니다.
+     */
+    private ProductDto.ProductListResponse hydrate(ProductListIds ids) {
+        Map<Long, ProductDetailCache> details = new HashMap<>(productCacheService.getProductDetails(ids.productIds()));
+
+        List<Long> missingIds = ids.productIds().stream()
+                .filter(id -> !details.containsKey(id))
+                .toList();
+
+        if (!missingIds.isEmpty()) {
+            long startedAt = System.currentTimeMillis();
+            List<Product> products = productDomainService.getProductsByIds(missingIds);
+            Map<Long, ProductDetailCache> loaded = toDetailCaches(products, getBrandMap(products));
+
+            productCacheService.setProductDetails(loaded, System.currentTimeMillis() - startedAt);
+            details.putAll(loaded);
+        }
+
+        List<ProductDto.ProductResponse> productResponses = ids.productIds().stream()
+                .filter(details::containsKey)
+                .map(id -> ProductDto.ProductResponse.from(id, details.get(id)))
+                .toList();
+
+        return new ProductDto.ProductListResponse(productResponses, ids.totalCount(), ids.hasNext());
+    }
+
+    /**
+     * 목록 페이지 DB 조회
+     * <p>
+     * EXACT 모드만 Page(COUNT 포함)로 조회하고, 나머지는 Slice 로 COUNT 쿼리를 생략합니다.
+     */
+    private Slice<Product> findProductPage(ProductListCacheKey cacheKey) {
+        Long brandId = cacheKey.brandId();
+
+        if (brandId != null) {
+            brandDomainService.getActiveBrand(brandId);
+        }
+
+        ProductSortType sortType = ProductSortType.from(cacheKey.sort());
+
+        if (productCountCache.mode() == ProductCountMode.EXACT) {
+            return productDomainService.getProducts(brandId, sortType, cacheKey.page(), cacheKey.size());
+        }
+
+        return productDomainService.getProductSlice(brandId, sortType, cacheKey.page(), cacheKey.size());
+    }
+
+    private long resolveTotalCount(Long brandId, Slice<?> products) {
+        if (products instanceof Page<?> page) {
+            return page.getTotalElements();
+        }
+
+        // 마지막 페이지면 개수를 바로 알 수 있음
+        if (!products.hasNext() && (products.hasContent() || products.isFirst())) {
+            return (long) products.getNumber() * products.getSize() + products.getNumberOfElements();
+        }
+
+        return switch (productCountCache.mode()) {
+            case EXACT -> productDomainService.countProducts(brandId);
+            case CACHED -> productCountCache.getCount(brandId, () -> productDomainService.countProducts(brandId));
+            case NONE -> ProductDto.ProductListResponse.UNKNOWN_TOTAL_COUNT;
+        };
+    }
+
+    private Map<Long, Brand> getBrandMap(List<Product> products) {
+        Set<Long> brandIds = products.stream()
+                .map(Product::getBrandId)
+                .collect(Collectors.toSet());
+        return brandDomainService.getBrandMap(brandIds);
+    }
+
+    private Map<Long, ProductDetailCache> toDetailCaches(List<Product> products, Map<Long, Brand> brandMap) {
+        Map<Long, ProductDetailCache> details = new HashMap<>();
+        for (Product product : products) {
+            details.put(product.getId(), ProductDetailCache.from(product, brandMap.get(product.getBrandId())));
+        }
+        return details;
+    }
+
     /**
      * 상품 상세 조회 (Cache-Aside 패턴)
      * <p>
@@ -80,7 +277,7 @@ public class ProductFacade {
      */
     public ProductDto.ProductDetailResponse getProduct(Long productId) {
         // 1. 캐시 조회 시도
-        Optional<ProductDetailCache> cachedDetail = productCacheService.getProductDetail(productId);
+        Optional<CacheEntry<ProductDetailCache>> cachedDetail = productCacheService.getProductDetailEntry(productId);
 
         // 2. 조회 이벤트 발행 (캐시 히트 여부와 무관하게)
         viewEventPublisher.publish(productId);
@@ -89,23 +286,42 @@ public class ProductFacade {
         Long rank = rankingRedisService.getRankingPosition(LocalDate.now(), productId);
 
         if (cachedDetail.isPresent()) {
+            // 만료 임박 시 백그라운드 조기 갱신
+            if (cachedDetail.get().refreshAhead()) {
+                productCacheRefresher.refreshAsync(
+                        productCacheService.productDetailKey(productId),
+                        () -> loadProductDetail(productId)
+                );
+            }
+
             // Cache Hit: 캐시된 데이터 직접 반환
             return ProductDto.ProductDetailResponse.from(
                     productId,
-                    cachedDetail.get(),
+                    cachedDetail.get().value(),
                     rank
             );
         }
 
-        // Cache Miss: DB에서 조회
+        // Cache Miss: 같은 상품에 대한 동시 미스는 한 번만 DB 조회
+        ProductDetailCache cache = singleFlightCacheLoader.load(
+                productCacheService.productDetailKey(productId),
+                () -> productCacheService.getProductDetail(productId),
+                () -> loadProductDetail(productId)
+        );
+
+        // Response 반환
+        return ProductDto.ProductDetailResponse.from(productId, cache, rank);
+    }
+
+    private ProductDetailCache loadProductDetail(Long productId) {
+        long startedAt = System.currentTimeMillis();
         Product product = productDomainService.getProduct(productId);
         Brand brand = brandDomainService.getBrand(product.getBrandId());
 
         // 캐시 데이터 생성 및 저장
         ProductDetailCache cache = ProductDetailCache.from(product, brand);
-        productCacheService.setProductDetail(productId, cache);
+        productCacheService.setProductDetail(productId, cache, System.currentTimeMillis() - startedAt);
 
-        // Response 반환
-        return ProductDto.ProductDetailResponse.from(productId, cache, rank);
+        return cache;
     }
 }
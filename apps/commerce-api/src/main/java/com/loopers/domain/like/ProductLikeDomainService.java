@@ -30,7 +30,7 @@ public class ProductLikeDomainService {
                 .findByUserIdAndProductId(user.getId(), productId);
 
         if (existingLike.isPresent()) {
-            return ProductLikeInfo.from(true, currentLikeCount);
+            return ProductLikeInfo.from(true, currentLikeCount, product.getBrandId());
         }
 
         ProductLike like = ProductLike.create(user.getId(), productId);
@@ -38,7 +38,7 @@ public class ProductLikeDomainService {
 
         eventPublisher.publishEvent(ProductLikedEvent.liked(productId, user.getId()));
 
-        return ProductLikeInfo.from(true, currentLikeCount + 1);
+        return ProductLikeInfo.from(true, currentLikeCount + 1, product.getBrandId());
     }
 
     @Transactional
@@ -50,14 +50,14 @@ public class ProductLikeDomainService {
                 .findByUserIdAndProductId(user.getId(), productId);
 
         if (existingLike.isEmpty()) {
-            return ProductLikeInfo.from(false, currentLikeCount);
+            return ProductLikeInfo.from(false, currentLikeCount, product.getBrandId());
         }
 
         productLikeRepository.delete(existingLike.get());
 
         eventPublisher.publishEvent(ProductLikedEvent.unliked(productId, user.getId()));
 
-        return ProductLikeInfo.from(false, currentLikeCount - 1);
+        return ProductLikeInfo.from(false, currentLikeCount - 1, product.getBrandId());
     }
 
     @Transactional(readOnly = true)
@@ -12,19 +12,26 @@ public class ProductLikedEvent {
     protected ProductLikedEvent() {
     }
 
-    private ProductLikedEvent(Long productId, Long userId, boolean liked) {
+    private ProductLikedEvent(Long productId, Long userId, boolean liked, LocalDateTime occurredAt) {
         this.productId = productId;
         this.userId = userId;
         this.liked = liked;
-        this.occurredAt = LocalDateTime.now();
+        this.occurredAt = occurredAt;
     }
 
     public static ProductLikedEvent liked(Long productId, Long userId) {
-        return new ProductLikedEvent(productId, userId, true);
+        return new ProductLikedEvent(productId, userId, true, LocalDateTime.now());
     }
 
     public static ProductLikedEvent unliked(Long productId, Long userId) {
-        return new ProductLikedEvent(productId, userId, false);
+        return new ProductLikedEvent(productId, userId, false, LocalDateTime.now());
+    }
+
+    /**
+     * 직렬화된 이벤트 복원
+     */
+    public static ProductLikedEvent of(Long productId, Long userId, boolean liked, LocalDateTime occurredAt) {
+        return new ProductLikedEvent(productId, userId, liked, occurredAt);
     }
 
     public Long getProductId() {
@@ -15,6 +15,7 @@ import jakarta.persistence.*;
                 @Index(name = "idx_order_id", columnList = "order_id"),
                 @Index(name = "idx_user_id", columnList = "user_id"),
                 @Index(name = "idx_status", columnList = "status"),
+                @Index(name = "idx_status_id", columnList = "status, id"),
                 @Index(name = "idx_created_at", columnList = "created_at DESC")
         }
 )
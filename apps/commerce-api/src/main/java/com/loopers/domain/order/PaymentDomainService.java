@@ -8,6 +8,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -63,6 +65,11 @@ public class PaymentDomainService {
                 ));
     }
 
+    @Transactional(readOnly = true)
+    public List<Payment> getPendingPaymentsBefore(ZonedDateTime createdBefore, Long afterId, int limit) {
+        return paymentRepository.findPendingBefore(createdBefore, afterId, limit);
+    }
+
     @Transactional(readOnly = true)
     public Payment getPaymentByPgTransactionId(String pgTransactionId) {
         return paymentRepository.findByPgTransactionId(pgTransactionId)
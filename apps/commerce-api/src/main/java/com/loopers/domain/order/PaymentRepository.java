@@ -1,5 +1,6 @@
 package com.loopers.domain.order;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +17,9 @@ public interface PaymentRepository {
     List<Payment> findByUserIdAndStatus(String userId, PaymentStatus status);
 
     Optional<Payment> findByPgTransactionId(String pgTransactionId);
+
+    /**
+     * createdBefore 이전에 생성되어 아직 PENDING 이고 PG 거래 ID 가 있는 결제를 id 순으로 조회 (키셋 페이지네이션)
+     */
+    List<Payment> findPendingBefore(ZonedDateTime createdBefore, Long afterId, int limit);
 }
@@ -30,10 +30,29 @@ public class OrderCompletedEvent {
         this.occurredAt = LocalDateTime.now();
     }
 
+    private OrderCompletedEvent(Long orderId, String userId, long totalAmount, long discountAmount, long paymentAmount,
+                                List<OrderItemInfo> items, LocalDateTime occurredAt) {
+        this.orderId = orderId;
+        this.userId = userId;
+        this.totalAmount = totalAmount;
+        this.discountAmount = discountAmount;
+        this.paymentAmount = paymentAmount;
+        this.items = items;
+        this.occurredAt = occurredAt;
+    }
+
     public static OrderCompletedEvent from(Order order) {
         return new OrderCompletedEvent(order);
     }
 
+    /**
+     * 직렬화된 이벤트 복원
+     */
+    public static OrderCompletedEvent of(Long orderId, String userId, long totalAmount, long discountAmount,
+                                         long paymentAmount, List<OrderItemInfo> items, LocalDateTime occurredAt) {
+        return new OrderCompletedEvent(orderId, userId, totalAmount, discountAmount, paymentAmount, items, occurredAt);
+    }
+
     public Long getOrderId() {
         return orderId;
     }
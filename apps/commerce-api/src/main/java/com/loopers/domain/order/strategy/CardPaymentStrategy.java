@@ -2,9 +2,12 @@ package com.loopers.domain.order.strategy;
 
 import com.loopers.domain.order.PaymentDomainService;
 import com.loopers.domain.order.PaymentType;
-import com.loopers.infrastructure.pg.PgClient;
+import com.loopers.infrastructure.pg.PgAsyncClient;
+import com.loopers.infrastructure.pg.PgConcurrencyLimiter;
 import com.loopers.infrastructure.pg.dto.PgPaymentRequest;
 import com.loopers.infrastructure.pg.dto.PgPaymentResponse;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
@@ -17,7 +20,7 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class CardPaymentStrategy implements PaymentStrategy {
 
-    private final PgClient pgClient;
+    private final PgAsyncClient pgAsyncClient;
     private final PaymentDomainService paymentDomainService;
 
     @Value("${pg.callback-base-url}")
@@ -31,6 +34,7 @@ public class CardPaymentStrategy implements PaymentStrategy {
     @Override
     @Retry(name = "pgRetry")
     @CircuitBreaker(name = "pgCircuit", fallbackMethod = "fallbackRequestPayment")
+    @Bulkhead(name = PgConcurrencyLimiter.BULKHEAD)
     public void executePayment(PaymentContext context) {
         PgPaymentRequest request = PgPaymentRequest.builder()
                 .orderId(String.format("%06d", context.orderId()))
@@ -40,10 +44,19 @@ public class CardPaymentStrategy implements PaymentStrategy {
                 .callbackUrl(callbackBaseUrl + "/api/v1/payments/callback")
                 .build();
 
-        PgPaymentResponse response = pgClient.requestPayment(context.userId(), request);
+        PgPaymentResponse response = PgAsyncClient.await(pgAsyncClient.requestPayment(context.userId(), request));
         paymentDomainService.updatePgTransactionId(context.paymentId(), response.getTransactionKey());
     }
 
+    /**
+     * 벌크헤드 거절은 PG 를 호출하지도 않았으므로 그대로 던져, 호출한 쪽이 결제를 보상 처리하게 합니다.
+     * (삼키면 PG 거래 ID 없이 결제 중으로 남아 대사 대상에서도 빠짐)
+     */
+    public void fallbackRequestPayment(PaymentContext context, BulkheadFullException exception) {
+        log.warn("PG bulkhead is full. orderId: {}, paymentId: {}", context.orderId(), context.paymentId());
+        throw exception;
+    }
+
     public void fallbackRequestPayment(PaymentContext context, Throwable throwable) {
         log.warn("PG request timeout/failure fallback. orderId: {}, paymentId: {}, reason: {}",
                 context.orderId(), context.paymentId(), throwable.getClass().getSimpleName());
@@ -6,6 +6,7 @@ import com.loopers.support.error.ErrorType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.persistence.Version;
 import java.util.Objects;
 
@@ -30,6 +31,10 @@ public class Product extends BaseEntity {
     @Version
     private Long version;
 
+    // 재고 샤드를 쓰는 상품의 실제 재고 (샤드 합계, 조회 시 채움)
+    @Transient
+    private Long shardedStock;
+
     protected Product() {
     }
 
@@ -96,6 +101,22 @@ public class Product extends BaseEntity {
         this.stock += quantity;
     }
 
+    /**
+     * 재고를 샤드로 옮김
+     *
+     * @return 옮긴 재고
+     */
+    public long moveStockToShards() {
+        long moved = this.stock;
+        this.stock = 0L;
+        this.shardedStock = moved;
+        return moved;
+    }
+
+    public void applyShardedStock(long shardedStock) {
+        this.shardedStock = shardedStock;
+    }
+
     public boolean hasEnoughStock(Long quantity) {
         return this.stock >= quantity;
     }
@@ -117,7 +138,7 @@ public class Product extends BaseEntity {
     }
 
     public Long getStock() {
-        return stock;
+        return shardedStock != null ? shardedStock : stock;
     }
 
     public Long getTotalLikes() {
@@ -0,0 +1,69 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+/**
+ * 상품 목록 커서
+ * <p>
+ * 마지막으로 조회한 상품의 정렬 값과 ID를 담습니다.
+ * 정렬 값이 같은 상품은 ID로 순서를 정하므로, 다음 페이지는 (정렬 값, ID) 이후부터 조회합니다.
+ */
+public record ProductCursor(
+        ProductSortType sortType,
+        Object sortValue,
+        Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public static ProductCursor from(Product product, ProductSortType sortType) {
+        Object sortValue = switch (sortType) {
+            case LATEST -> product.getCreatedAt();
+            case PRICE_ASC -> product.getPrice();
+            case LIKES_DESC -> product.getTotalLikes();
+        };
+
+        return new ProductCursor(sortType, sortValue, product.getId());
+    }
+
+    /**
+     * API 응답용 문자열로 변환
+     */
+    public String encode() {
+        String raw = sortType.getValue() + DELIMITER + sortValue + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * API 요청의 커서 문자열 해석
+     * <p>
+     * 다른 정렬 기준으로 발급된 커서는 사용할 수 없습니다.
+     */
+    public static ProductCursor decode(String cursor, ProductSortType sortType) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+
+            if (parts.length != 3 || ProductSortType.from(parts[0]) != sortType) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+            }
+
+            Object sortValue = switch (sortType) {
+                case LATEST -> ZonedDateTime.parse(parts[1]);
+                case PRICE_ASC, LIKES_DESC -> Long.parseLong(parts[1]);
+            };
+
+            return new ProductCursor(sortType, sortValue, Long.parseLong(parts[2]));
+
+        } catch (CoreException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+}
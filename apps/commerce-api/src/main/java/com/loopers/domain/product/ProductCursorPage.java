@@ -0,0 +1,18 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+
+/**
+ * 커서 기반 상품 목록 조회 결과
+ *
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record ProductCursorPage(
+        List<Product> products,
+        ProductCursor nextCursor
+) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -1,23 +1,30 @@
 package com.loopers.domain.product;
 
 import com.loopers.domain.product.event.StockDepletedEvent;
-import com.loopers.support.error.CoreException;
-import com.loopers.support.error.ErrorMessage;
-import com.loopers.support.error.ErrorType;
+import com.loopers.domain.product.strategy.StockDecreaseResult;
+import com.loopers.domain.product.strategy.StockDecreaseStrategyFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
 public class ProductDomainService {
 
+
     private final ProductRepository productRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final StockDecreaseStrategyFactory stockDecreaseStrategyFactory;
+    private final ProductStockShardRepository productStockShardRepository;
 
     /**
      * 상품 목록 조회
@@ -36,60 +43,193 @@ public class ProductDomainService {
             productPage = productRepository.findAll(sortType, page, size);
         }
 
+        applyShardedStocks(productPage.getContent());
         return productPage;
     }
 
+    /**
+     * 상품 목록 조회 (COUNT 없음)
+     * <p>
+     * size + 1 건을 읽어 다음 페이지 존재 여부만 판단합니다.
+     */
+    public Slice<Product> getProductSlice(
+            Long brandId,
+            ProductSortType sortType,
+            int page,
+            int size
+    ) {
+        Slice<Product> productSlice = brandId != null
+                ? productRepository.findSliceByBrandId(brandId, sortType, page, size)
+                : productRepository.findSlice(sortType, page, size);
+
+        applyShardedStocks(productSlice.getContent());
+        return productSlice;
+    }
+
+    /**
+     * 상품 목록 항목 조회
+     * <p>
+     * 엔티티 대신 목록 컬럼만 조회합니다. (COUNT 없음)
+     */
+    public Slice<ProductListItem> getProductListItems(
+            Long brandId,
+            ProductSortType sortType,
+            int page,
+            int size
+    ) {
+        return productRepository.findListItems(brandId, sortType, page, size);
+    }
+
+    /**
+     * 상품 개수 조회
+     */
+    public long countProducts(Long brandId) {
+        if (brandId != null) {
+            return productRepository.countByBrandId(brandId);
+        }
+
+        return productRepository.count();
+    }
+
+    /**
+     * 상품 목록 커서 조회
+     * <p>
+     * OFFSET 없이 커서 이후 상품만 읽으므로 깊은 페이지도 첫 페이지와 같은 비용으로 조회합니다.
+     *
+     * @param cursor 이전 페이지의 마지막 커서 (첫 페이지면 null)
+     */
+    public ProductCursorPage getProductsByCursor(
+            Long brandId,
+            ProductSortType sortType,
+            ProductCursor cursor,
+            int size
+    ) {
+        if (brandId != null) {
+            return productRepository.findByBrandIdByCursor(brandId, sortType, cursor, size);
+        }
+
+        return productRepository.findAllByCursor(sortType, cursor, size);
+    }
+
     /**
      * 상품 단건 조회
      */
     public Product getProduct(Long productId) {
-        return productRepository.findByIdOrThrow(productId);
+        Product product = productRepository.findByIdOrThrow(productId);
+        productStockShardRepository.sumStock(productId).ifPresent(product::applyShardedStock);
+        return product;
+    }
+
+    /**
+     * 상품 일괄 조회
+     */
+    public List<Product> getProductsByIds(List<Long> productIds) {
+        List<Product> products = productRepository.findAllByIdIn(productIds);
+        applyShardedStocks(products);
+        return products;
     }
 
     /**
      * 재고 차감
+     * <p>
+     * 차감 방식은 stock.engine 설정을 따르며, 재고가 0이 되면 품절 이벤트를 발행합니다.
      */
     public Product decreaseStock(Long productId, Long quantity) {
-        Product product = getProductWithLock(productId);
+        StockDecreaseResult result = stockDecreaseStrategyFactory.create().decrease(productId, quantity);
 
-        if (!product.hasEnoughStock(quantity)) {
-            throw new CoreException(
-                    ErrorType.BAD_REQUEST,
-                    String.format("상품 '%s'의 재고가 부족합니다.", product.getName())
-            );
+        if (result.isDepleted()) {
+            eventPublisher.publishEvent(StockDepletedEvent.of(productId));
         }
 
-        product.decreaseStock(quantity);
-        productRepository.save(product);
+        return result.product();
+    }
 
-        if (!product.hasStock()) {
-            eventPublisher.publishEvent(StockDepletedEvent.of(productId));
+    /**
+     * 여러 상품 재고 일괄 차감
+     * <p>
+     * 상품 ID 순서대로 차감하며, 차감 방식에 따라 락 조회나 UPDATE 를 한 번으로 묶습니다.
+     *
+     * @param quantities 상품별 차감 수량
+     * @return 상품 ID 순서의 차감된 상품 목록
+     */
+    public List<Product> decreaseStocks(Map<Long, Long> quantities) {
+        List<StockDecreaseResult> results = stockDecreaseStrategyFactory.create().decreaseAll(new TreeMap<>(quantities));
+
+        for (StockDecreaseResult result : results) {
+            if (result.isDepleted()) {
+                eventPublisher.publishEvent(StockDepletedEvent.of(result.product().getId()));
+            }
         }
 
-        return product;
+        return results.stream().map(StockDecreaseResult::product).toList();
+    }
+
+    /**
+     * 같은 상품에 대한 여러 주문의 재고를 한 번에 할당
+     * <p>
+     * 차감 방식이 보는 가용 재고(Redis 예약이면 Redis 값) 안에서 도착 순서대로 주문을 받고, 받은 수량의 합을 한 번에 차감합니다.
+     * 재고를 읽은 뒤 다른 주문이 먼저 차감해 부족해지면 BAD_REQUEST 로 실패합니다. 같은 트랜잭션에서는
+     * 재고를 다시 읽어도 같은 스냅샷이 보이므로, 호출한 쪽은 새 트랜잭션에서 다시 시도해야 합니다.
+     *
+     * @param quantities 도착 순서의 주문별 수량
+     */
+    public StockAllocation allocateStock(Long productId, List<Long> quantities) {
+        long available = stockDecreaseStrategyFactory.create().available(productId);
+
+        Set<Integer> accepted = new HashSet<>();
+        long total = 0;
+        for (int i = 0; i < quantities.size(); i++) {
+            Long quantity = quantities.get(i);
+            if (quantity != null && quantity > 0 && total + quantity <= available) {
+                accepted.add(i);
+                total += quantity;
+            }
+        }
+
+        if (accepted.isEmpty()) {
+            return StockAllocation.none();
+        }
+
+        return new StockAllocation(decreaseStock(productId, total), accepted);
     }
 
     /**
      * 재고 복구
+     * <p>
+     * 차감과 같은 방식(stock.engine)으로 되돌립니다.
      */
     @Transactional
     public void increaseStock(Long productId, Long quantity) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, ErrorMessage.PRODUCT_NOT_FOUND));
+        stockDecreaseStrategyFactory.create().release(productId, quantity);
+    }
 
-        product.increaseStock(quantity);
-        productRepository.save(product);
+    /**
+     * 예약된 재고 차감분을 DB에 반영
+     * <p>
+     * 재고 확인은 예약 단계에서 끝났으므로 조건 없이 반영합니다. (음수면 복구)
+     */
+    @Transactional
+    public void applyReservedStock(Long productId, long quantity) {
+        productRepository.adjustStock(productId, -quantity);
     }
 
     /**
-     * 비관적 락 상품조회
+     * 재고 샤드를 쓰는 상품은 샤드 합계를 재고로 채움
      */
-    private Product getProductWithLock(Long productId) {
-        return productRepository.findByIdWithLock(productId)
-                .orElseThrow(() -> new CoreException(
-                        ErrorType.NOT_FOUND,
-                        ErrorMessage.PRODUCT_NOT_FOUND
-                ));
+    private void applyShardedStocks(List<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+
+        List<Long> productIds = products.stream().map(Product::getId).toList();
+        Map<Long, Long> shardedStocks = productStockShardRepository.sumStockByProductIds(productIds);
+
+        for (Product product : products) {
+            Long shardedStock = shardedStocks.get(product.getId());
+            if (shardedStock != null) {
+                product.applyShardedStock(shardedStock);
+            }
+        }
     }
 
     public List<Product> getProductsByBrandId(Long brandId) {
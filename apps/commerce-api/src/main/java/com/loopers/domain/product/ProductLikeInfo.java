@@ -2,9 +2,10 @@ package com.loopers.domain.product;
 
 public record ProductLikeInfo(
         boolean liked,
-        Long totalLikes
+        Long totalLikes,
+        Long brandId
 ) {
-    public static ProductLikeInfo from(boolean liked, Long totalLikes) {
-        return new ProductLikeInfo(liked, totalLikes);
+    public static ProductLikeInfo from(boolean liked, Long totalLikes, Long brandId) {
+        return new ProductLikeInfo(liked, totalLikes, brandId);
     }
 }
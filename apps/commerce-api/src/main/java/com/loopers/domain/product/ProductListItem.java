@@ -0,0 +1,16 @@
+package com.loopers.domain.product;
+
+/**
+ * 상품 목록 항목
+ * <p>
+ * 목록 화면에 필요한 컬럼만 담는 조회 전용 모델입니다.
+ * 설명, 재고, 버전, 감사 컬럼은 읽지 않습니다.
+ */
+public record ProductListItem(
+        Long id,
+        String name,
+        long price,
+        Long totalLikes,
+        Long brandId
+) {
+}
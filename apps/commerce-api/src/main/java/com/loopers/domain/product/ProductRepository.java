@@ -1,10 +1,12 @@
 package com.loopers.domain.product;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductRepository {
@@ -19,12 +21,36 @@ public interface ProductRepository {
 
     Page<Product> findByBrandId(Long brandId, ProductSortType sortType, int page, int size);
 
+    Slice<Product> findSlice(ProductSortType sortType, int page, int size);
+
+    Slice<Product> findSliceByBrandId(Long brandId, ProductSortType sortType, int page, int size);
+
+    Slice<ProductListItem> findListItems(Long brandId, ProductSortType sortType, int page, int size);
+
+    long count();
+
+    long countByBrandId(Long brandId);
+
+    ProductCursorPage findAllByCursor(ProductSortType sortType, ProductCursor cursor, int size);
+
+    ProductCursorPage findByBrandIdByCursor(Long brandId, ProductSortType sortType, ProductCursor cursor, int size);
+
     Product save(Product product);
 
     List<Product> findAllByIdIn(List<Long> ids);
 
     Optional<Product> findByIdWithLock(Long id);
 
+    List<Product> findAllByIdInWithLock(List<Long> ids);
+
+    int decreaseStockIfEnough(Long id, Long quantity);
+
+    int decreaseStocksIfEnough(Map<Long, Long> quantities);
+
+    Optional<Long> findStockById(Long id);
+
+    int adjustStock(Long id, long delta);
+
     void flush();
 
     // 비정규화: 좋아요 수 직접 업데이트
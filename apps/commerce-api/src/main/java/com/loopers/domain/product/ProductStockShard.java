@@ -0,0 +1,69 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상품 재고 샤드
+ * <p>
+ * 주문이 몰리는 상품의 재고를 여러 행으로 나눠, 차감이 한 행의 락에 몰리지 않도록 합니다.
+ * 샤드가 있는 상품의 재고는 샤드 재고의 합입니다.
+ */
+@Entity
+@Table(
+        name = "product_stock_shards",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_product_stock_shard",
+                columnNames = {"product_id", "shard_no"}
+        )
+)
+public class ProductStockShard extends BaseEntity {
+
+    private Long productId;
+
+    private int shardNo;
+
+    private Long stock;
+
+    protected ProductStockShard() {
+    }
+
+    private ProductStockShard(Long productId, int shardNo, Long stock) {
+        this.productId = productId;
+        this.shardNo = shardNo;
+        this.stock = stock;
+    }
+
+    /**
+     * 재고를 샤드 수만큼 고르게 나눔 (나머지는 앞쪽 샤드부터 하나씩)
+     */
+    public static List<ProductStockShard> split(Long productId, long totalStock, int shardCount) {
+        List<ProductStockShard> shards = new ArrayList<>();
+        long base = totalStock / shardCount;
+        long remainder = totalStock % shardCount;
+
+        for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+            long stock = base + (shardNo < remainder ? 1 : 0);
+            shards.add(new ProductStockShard(productId, shardNo, stock));
+        }
+
+        return shards;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public int getShardNo() {
+        return shardNo;
+    }
+
+    public Long getStock() {
+        return stock;
+    }
+}
@@ -0,0 +1,29 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface ProductStockShardRepository {
+
+    List<ProductStockShard> findByProductId(Long productId);
+
+    List<ProductStockShard> findByProductIdWithLock(Long productId);
+
+    /**
+     * 상품의 샤드를 모두 잠그고 샤드 번호 순으로 최신 재고를 읽음
+     */
+    Map<Integer, Long> findStocksWithLock(Long productId);
+
+    List<ProductStockShard> saveAll(List<ProductStockShard> shards);
+
+    int decreaseIfEnough(Long productId, int shardNo, Long quantity);
+
+    int increase(Long productId, int shardNo, Long quantity);
+
+    Optional<Long> findStock(Long productId, int shardNo);
+
+    Optional<Long> sumStock(Long productId);
+
+    Map<Long, Long> sumStockByProductIds(List<Long> productIds);
+}
@@ -0,0 +1,23 @@
+package com.loopers.domain.product;
+
+import java.util.Set;
+
+/**
+ * 여러 주문에 대한 재고 일괄 할당 결과
+ *
+ * @param product         재고가 차감된 상품 (할당된 주문이 없으면 null)
+ * @param acceptedIndexes 재고를 할당받은 주문의 순번
+ */
+public record StockAllocation(
+        Product product,
+        Set<Integer> acceptedIndexes
+) {
+
+    public static StockAllocation none() {
+        return new StockAllocation(null, Set.of());
+    }
+
+    public boolean isAccepted(int index) {
+        return acceptedIndexes.contains(index);
+    }
+}
@@ -10,13 +10,20 @@ public class StockDepletedEvent {
     protected StockDepletedEvent() {
     }
 
-    private StockDepletedEvent(Long productId) {
+    private StockDepletedEvent(Long productId, LocalDateTime occurredAt) {
         this.productId = productId;
-        this.occurredAt = LocalDateTime.now();
+        this.occurredAt = occurredAt;
     }
 
     public static StockDepletedEvent of(Long productId) {
-        return new StockDepletedEvent(productId);
+        return new StockDepletedEvent(productId, LocalDateTime.now());
+    }
+
+    /**
+     * 직렬화된 이벤트 복원
+     */
+    public static StockDepletedEvent of(Long productId, LocalDateTime occurredAt) {
+        return new StockDepletedEvent(productId, occurredAt);
     }
 
     public Long getProductId() {
@@ -0,0 +1,122 @@
+package com.loopers.domain.product.strategy;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorMessage;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 조건부 UPDATE 재고 차감
+ * <p>
+ * UPDATE ... SET stock = stock - ? WHERE id = ? AND stock >= ? 한 문장으로 확인과 차감을 함께 수행합니다.
+ * 행 락은 UPDATE 문 동안만 필요하고, 재고 확인을 위한 SELECT ... FOR UPDATE 는 없습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalUpdateStockStrategy implements StockDecreaseStrategy {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    public boolean supports(StockEngineType engineType) {
+        return engineType == StockEngineType.CONDITIONAL_UPDATE;
+    }
+
+    @Override
+    public StockDecreaseResult decrease(Long productId, Long quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "차감 수량은 0보다 커야 합니다.");
+        }
+
+        int updated = productRepository.decreaseStockIfEnough(productId, quantity);
+
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new CoreException(
+                        ErrorType.NOT_FOUND,
+                        ErrorMessage.PRODUCT_NOT_FOUND
+                ));
+
+        if (updated == 0) {
+            throw new CoreException(
+                    ErrorType.BAD_REQUEST,
+                    String.format("상품 '%s'의 재고가 부족합니다.", product.getName())
+            );
+        }
+
+        // 영속성 컨텍스트의 엔티티는 UPDATE 이전 값일 수 있으므로 재고는 DB에서 다시 읽음
+        long remainingStock = productRepository.findStockById(productId).orElse(0L);
+
+        return new StockDecreaseResult(product, remainingStock);
+    }
+
+    /**
+     * 모든 주문 상품을 UPDATE 한 문장으로 차감하고, 차감된 상품은 IN 조회 한 번으로 가져옴
+     * <p>
+     * 갱신된 행 수가 상품 수보다 적으면 재고가 부족한 상품이 있는 것이므로 예외를 던져 주문 트랜잭션을 롤백합니다.
+     * 어느 상품이 부족했는지는 알 수 없으므로, 상품이 하나면 단건 차감으로 처리해 상품명을 알려줍니다.
+     */
+    @Override
+    public List<StockDecreaseResult> decreaseAll(Map<Long, Long> quantities) {
+        if (quantities.size() == 1) {
+            return StockDecreaseStrategy.super.decreaseAll(quantities);
+        }
+
+        if (quantities.values().stream().anyMatch(quantity -> quantity == null || quantity <= 0)) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "차감 수량은 0보다 커야 합니다.");
+        }
+
+        int updated = productRepository.decreaseStocksIfEnough(quantities);
+
+        // 주문 흐름에서는 차감 전에 상품을 읽지 않으므로 여기서 읽는 엔티티는 UPDATE 이후 값
+        Map<Long, Product> products = productRepository.findAllByIdIn(new ArrayList<>(quantities.keySet())).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        if (products.size() < quantities.size()) {
+            throw new CoreException(ErrorType.NOT_FOUND, ErrorMessage.PRODUCT_NOT_FOUND);
+        }
+
+        if (updated < quantities.size()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "재고가 부족한 상품이 있습니다.");
+        }
+
+        List<StockDecreaseResult> results = new ArrayList<>();
+        for (Long productId : quantities.keySet()) {
+            Product product = products.get(productId);
+            results.add(new StockDecreaseResult(product, product.getStock()));
+        }
+
+        return results;
+    }
+
+    /**
+     * UPDATE ... SET stock = stock + ? 한 문장으로 복구
+     * <p>
+     * 엔티티를 읽어 저장하면 그 사이 조건부 차감이 version 을 올려 OptimisticLockException 으로 복구가 유실되므로,
+     * 차감과 같은 원자적 UPDATE 를 사용합니다.
+     */
+    @Override
+    public long available(Long productId) {
+        return productRepository.findStockById(productId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, ErrorMessage.PRODUCT_NOT_FOUND));
+    }
+
+    @Override
+    public void release(Long productId, Long quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "증가 수량은 0보다 커야 합니다.");
+        }
+
+        if (productRepository.adjustStock(productId, quantity) == 0) {
+            throw new CoreException(ErrorType.NOT_FOUND, ErrorMessage.PRODUCT_NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.loopers.domain.product.strategy;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorMessage;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 비관적 락 재고 차감
+ * <p>
+ * SELECT ... FOR UPDATE 로 상품 행을 잠근 뒤 엔티티에서 차감합니다.
+ * 락은 주문 트랜잭션이 끝날 때까지 유지됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PessimisticLockStockStrategy implements StockDecreaseStrategy {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    public boolean supports(StockEngineType engineType) {
+        return engineType == StockEngineType.PESSIMISTIC_LOCK;
+    }
+
+    @Override
+    public StockDecreaseResult decrease(Long productId, Long quantity) {
+        Product product = productRepository.findByIdWithLock(productId)
+                .orElseThrow(() -> new CoreException(
+                        ErrorType.NOT_FOUND,
+                        ErrorMessage.PRODUCT_NOT_FOUND
+                ));
+
+        if (!product.hasEnoughStock(quantity)) {
+            throw new CoreException(
+                    ErrorType.BAD_REQUEST,
+                    String.format("상품 '%s'의 재고가 부족합니다.", product.getName())
+            );
+        }
+
+        product.decreaseStock(quantity);
+        productRepository.save(product);
+
+        return new StockDecreaseResult(product, product.getStock());
+    }
+
+    /**
+     * 모든 주문 상품을 SELECT ... WHERE id IN (...) FOR UPDATE 한 번으로 잠근 뒤 차감
+     * <p>
+     * ID 순서로 잠그므로 주문끼리 교착 상태가 생기지 않고, 변경은 커밋 시 한 번에 flush 됩니다.
+     */
+    @Override
+    public List<StockDecreaseResult> decreaseAll(Map<Long, Long> quantities) {
+        Map<Long, Product> products = productRepository.findAllByIdInWithLock(new ArrayList<>(quantities.keySet())).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        List<StockDecreaseResult> results = new ArrayList<>();
+        for (Map.Entry<Long, Long> entry : quantities.entrySet()) {
+            Product product = products.get(entry.getKey());
+            if (product == null) {
+                throw new CoreException(ErrorType.NOT_FOUND, ErrorMessage.PRODUCT_NOT_FOUND);
+            }
+
+            if (!product.hasEnoughStock(entry.getValue())) {
+                throw new CoreException(
+                        ErrorType.BAD_REQUEST,
+                        String.format("상품 '%s'의 재고가 부족합니다.", product.getName())
+                );
+            }
+
+            product.decreaseStock(entry.getValue());
+            results.add(new StockDecreaseResult(product, product.getStock()));
+        }
+
+        return results;
+    }
+
+    /**
+     * UPDATE ... SET stock = stock + ? 한 문장으로 복구 (엔티티 저장 시의 version 충돌 방지)
+     */
+    @Override
+    public long available(Long productId) {
+        return productRepository.findStockById(productId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, ErrorMessage.PRODUCT_NOT_FOUND));
+    }
+
+    @Override
+    public void release(Long productId, Long quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "증가 수량은 0보다 커야 합니다.");
+        }
+
+        if (productRepository.adjustStock(productId, quantity) == 0) {
+            throw new CoreException(ErrorType.NOT_FOUND, ErrorMessage.PRODUCT_NOT_FOUND);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.loopers.domain.product.strategy;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductStockShard;
+import com.loopers.domain.product.ProductStockShardRepository;
+import com.loopers.domain.product.event.StockDepletedEvent;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorMessage;
+import com.loopers.support.error.ErrorType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 샤드 재고 차감
+ * <p>
+ * 재고가 min-stock 이상인 상품은 첫 차감 시 재고를 N개의 샤드 행으로 나눕니다.
+ * 이후 차감은 임의의 샤드부터 조건부 UPDATE 를 시도하므로 동시 주문이 서로 다른 행으로 흩어집니다.
+ * 어느 샤드도 혼자 수량을 채우지 못하면 모든 샤드를 잠그고 나눠서 차감합니다.
+ * <p>
+ * 재고가 적은 상품은 샤드 없이 조건부 UPDATE 로 차감합니다.
+ */
+@Component
+public class ShardedStockStrategy implements StockDecreaseStrategy {
+
+    private final ProductRepository productRepository;
+    private final ProductStockShardRepository productStockShardRepository;
+    private final ConditionalUpdateStockStrategy conditionalUpdateStockStrategy;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate requiresNewTransaction;
+    private final int shardCount;
+    private final long minStock;
+
+    public ShardedStockStrategy(
+            ProductRepository productRepository,
+            ProductStockShardRepository productStockShardRepository,
+            ConditionalUpdateStockStrategy conditionalUpdateStockStrategy,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${stock.shard.count:8}") int shardCount,
+            @Value("${stock.shard.min-stock:1000}") long minStock) {
+        this.productRepository = productRepository;
+        this.productStockShardRepository = productStockShardRepository;
+        this.conditionalUpdateStockStrategy = conditionalUpdateStockStrategy;
+        this.eventPublisher = eventPublisher;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.shardCount = shardCount;
+        this.minStock = minStock;
+    }
+
+    @Override
+    public boolean supports(StockEngineType engineType) {
+        return engineType == StockEngineType.SHARDED;
+    }
+
+    @Override
+    public StockDecreaseResult decrease(Long productId, Long quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "차감 수량은 0보다 커야 합니다.");
+        }
+
+        List<ProductStockShard> shards = productStockShardRepository.findByProductId(productId);
+
+        if (shards.isEmpty()) {
+            shards = splitIfHot(productId);
+            if (shards.isEmpty()) {
+                return conditionalUpdateStockStrategy.decrease(productId, quantity);
+            }
+        }
+
+        Integer drainedShardNo = decreaseOnAnyShard(productId, shards, quantity);
+        long remainingStock = drainedShardNo == null
+                ? decreaseAcrossShards(productId, quantity)
+                : productStockShardRepository.sumStock(productId).orElse(0L);
+        boolean shardEmptied = drainedShardNo == null
+                || productStockShardRepository.findStock(productId, drainedShardNo).orElse(0L) == 0;
+
+        // 다른 트랜잭션이 다른 샤드의 마지막 재고를 동시에 차감 중이면 합계가 아직 남아 보일 수 있어 커밋 후 다시 확인
+        if (shardEmptied && remainingStock > 0) {
+            checkDepletionAfterCommit(productId);
+        }
+
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, ErrorMessage.PRODUCT_NOT_FOUND));
+        product.applyShardedStock(remainingStock);
+
+        return new StockDecreaseResult(product, remainingStock);
+    }
+
+    @Override
+    public long available(Long productId) {
+        return productStockShardRepository.sumStock(productId)
+                .or(() -> productRepository.findStockById(productId))
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, ErrorMessage.PRODUCT_NOT_FOUND));
+    }
+
+    @Override
+    public void release(Long productId, Long quantity) {
+        List<ProductStockShard> shards = productStockShardRepository.findByProductId(productId);
+
+        if (shards.isEmpty()) {
+            conditionalUpdateStockStrategy.release(productId, quantity);
+            return;
+        }
+
+        if (quantity == null || quantity <= 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "증가 수량은 0보다 커야 합니다.");
+        }
+
+        ProductStockShard shard = shards.get(ThreadLocalRandom.current().nextInt(shards.size()));
+        productStockShardRepository.increase(productId, shard.getShardNo(), quantity);
+    }
+
+    /**
+     * 재고가 많은 상품이면 샤드로 나눔
+     * <p>
+     * 재고가 적으면 락 없이 돌아가고, 나눌 때는 상품 행을 잠근 뒤 다시 확인하므로 한 번만 나뉩니다.
+     * 다시 확인할 때는 잠금 조회로 읽어야 트랜잭션 스냅샷 이후 다른 트랜잭션이 만든 샤드가 보입니다.
+     */
+    private List<ProductStockShard> splitIfHot(Long productId) {
+        if (productRepository.findStockById(productId).orElse(0L) < minStock) {
+            return List.of();
+        }
+
+        Product product = productRepository.findByIdWithLock(productId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, ErrorMessage.PRODUCT_NOT_FOUND));
+
+        List<ProductStockShard> shards = productStockShardRepository.findByProductIdWithLock(productId);
+        if (!shards.isEmpty() || product.getStock() < minStock) {
+            return shards;
+        }
+
+        long stock = product.moveStockToShards();
+        productRepository.save(product);
+
+        return productStockShardRepository.saveAll(ProductStockShard.split(productId, stock, shardCount));
+    }
+
+    /**
+     * 임의의 샤드부터 돌며 한 샤드에서 전량 차감
+     * <p>
+     * 읽어 둔 재고로도 모자란 샤드는 건너뜁니다. 조건이 맞지 않은 UPDATE 도 행을 잠근 채 남기므로,
+     * 임의 순서로 잠근 샤드가 여러 샤드 차감의 순서대로 잠금과 엇갈려 교착되지 않게 합니다.
+     *
+     * @return 차감한 샤드 번호 (어느 샤드도 수량을 채우지 못하면 null)
+     */
+    private Integer decreaseOnAnyShard(Long productId, List<ProductStockShard> shards, Long quantity) {
+        int start = ThreadLocalRandom.current().nextInt(shards.size());
+
+        for (int i = 0; i < shards.size(); i++) {
+            ProductStockShard shard = shards.get((start + i) % shards.size());
+            if (shard.getStock() < quantity) {
+                continue;
+            }
+
+            if (productStockShardRepository.decreaseIfEnough(productId, shard.getShardNo(), quantity) == 1) {
+                return shard.getShardNo();
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 재고가 여러 샤드에 흩어져 있을 때 모든 샤드를 잠그고 나눠서 차감
+     * <p>
+     * REPEATABLE READ 에서 일반 SELECT 는 트랜잭션 스냅샷을 읽으므로, 재고는 잠금 조회(FOR UPDATE)가 돌려준 최신 값을 씁니다.
+     *
+     * @return 차감 후 샤드 재고 합계
+     */
+    private long decreaseAcrossShards(Long productId, Long quantity) {
+        Map<Integer, Long> stocks = productStockShardRepository.findStocksWithLock(productId);
+        long total = stocks.values().stream().mapToLong(Long::longValue).sum();
+
+        if (total < quantity) {
+            throw outOfStock(productId);
+        }
+
+        long remaining = quantity;
+        for (Map.Entry<Integer, Long> stock : stocks.entrySet()) {
+            long taken = Math.min(stock.getValue(), remaining);
+            if (taken > 0) {
+                if (productStockShardRepository.decreaseIfEnough(productId, stock.getKey(), taken) != 1) {
+                    throw outOfStock(productId);
+                }
+                remaining -= taken;
+            }
+            if (remaining == 0) {
+                break;
+            }
+        }
+
+        return total - quantity;
+    }
+
+    private CoreException outOfStock(Long productId) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, ErrorMessage.PRODUCT_NOT_FOUND));
+        return new CoreException(
+                ErrorType.BAD_REQUEST,
+                String.format("상품 '%s'의 재고가 부족합니다.", product.getName())
+        );
+    }
+
+    private void checkDepletionAfterCommit(Long productId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                requiresNewTransaction.executeWithoutResult(status -> {
+                    if (productStockShardRepository.sumStock(productId).orElse(0L) == 0) {
+                        eventPublisher.publishEvent(StockDepletedEvent.of(productId));
+                    }
+                });
+            }
+        });
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.domain.product.strategy;
+
+import com.loopers.domain.product.Product;
+
+/**
+ * 재고 차감 결과
+ *
+ * @param product        차감한 상품 (주문 항목의 이름/가격에 사용)
+ * @param remainingStock 차감 후 남은 재고
+ */
+public record StockDecreaseResult(
+        Product product,
+        long remainingStock
+) {
+
+    public boolean isDepleted() {
+        return remainingStock <= 0;
+    }
+}
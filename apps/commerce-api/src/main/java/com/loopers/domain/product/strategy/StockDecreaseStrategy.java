@@ -0,0 +1,42 @@
+package com.loopers.domain.product.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public interface StockDecreaseStrategy {
+
+    boolean supports(StockEngineType engineType);
+
+    /**
+     * 재고 차감
+     * <p>
+     * 재고가 부족하면 BAD_REQUEST, 상품이 없으면 NOT_FOUND 예외를 던집니다.
+     */
+    StockDecreaseResult decrease(Long productId, Long quantity);
+
+    /**
+     * 여러 상품 재고 일괄 차감 (상품 ID 순서대로)
+     * <p>
+     * 기본 구현은 상품마다 decrease 를 호출합니다. 한 번에 처리할 수 있는 방식은 재정의합니다.
+     *
+     * @param quantities 상품 ID 오름차순으로 정렬된 상품별 차감 수량
+     */
+    default List<StockDecreaseResult> decreaseAll(Map<Long, Long> quantities) {
+        List<StockDecreaseResult> results = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> results.add(decrease(productId, quantity)));
+        return results;
+    }
+
+    /**
+     * 지금 차감할 수 있는 재고
+     * <p>
+     * 여러 주문을 한 번에 할당할 때 이 값 안에서 주문을 받습니다. 상품이 없으면 NOT_FOUND 예외를 던집니다.
+     */
+    long available(Long productId);
+
+    /**
+     * 재고 복구 (주문 실패/결제 실패 시 차감분 반환)
+     */
+    void release(Long productId, Long quantity);
+}
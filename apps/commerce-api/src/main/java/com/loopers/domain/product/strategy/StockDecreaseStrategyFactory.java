@@ -0,0 +1,41 @@
+package com.loopers.domain.product.strategy;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 재고 차감 방식 선택
+ * <p>
+ * stock.engine 설정으로 차감 방식을 고릅니다. (기본값: pessimistic-lock)
+ */
+@Component
+public class StockDecreaseStrategyFactory {
+
+    private final List<StockDecreaseStrategy> strategies;
+    private final StockEngineType engineType;
+
+    public StockDecreaseStrategyFactory(
+            List<StockDecreaseStrategy> strategies,
+            @Value("${stock.engine:pessimistic-lock}") String engine) {
+        this.strategies = strategies;
+        this.engineType = StockEngineType.from(engine);
+    }
+
+    public StockDecreaseStrategy create() {
+        return create(engineType);
+    }
+
+    public StockDecreaseStrategy create(StockEngineType engineType) {
+        return strategies.stream()
+                .filter(strategy -> strategy.supports(engineType))
+                .findFirst()
+                .orElseThrow(() -> new CoreException(
+                        ErrorType.INTERNAL_ERROR,
+                        "지원하지 않는 재고 차감 방식입니다: " + engineType
+                ));
+    }
+}
@@ -0,0 +1,31 @@
+package com.loopers.domain.product.strategy;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+public enum StockEngineType {
+    PESSIMISTIC_LOCK("pessimistic-lock"),
+    CONDITIONAL_UPDATE("conditional-update"),
+    REDIS_RESERVATION("redis-reservation"),
+    SHARDED("sharded");
+
+    private final String value;
+
+    StockEngineType(String value) {
+        this.value = value;
+    }
+
+    public static StockEngineType from(String value) {
+        for (StockEngineType type : values()) {
+            if (type.value.equals(value)) {
+                return type;
+            }
+        }
+
+        throw new CoreException(ErrorType.INTERNAL_ERROR, "지원하지 않는 재고 차감 방식입니다: " + value);
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,78 @@
+package com.loopers.infrastructure.batch;
+
+import com.loopers.infrastructure.outbox.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발행 완료 Outbox 정리
+ * <p>
+ * PROCESSED 행이 쌓이면 relay 조회와 인덱스가 계속 커지므로, 보관 기간이 지난 행을 chunk-size 건씩 나눠 삭제합니다.
+ * 한 번에 지우지 않고 chunk 사이에 쉬어 긴 잠금과 복제 지연을 피하며, 한 주기에 max-chunks 까지만 처리합니다.
+ * 삭제 건수는 outbox.retention.deleted 로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class OutboxRetentionBatch {
+
+    private static final String DELETED = "outbox.retention.deleted";
+
+    private final OutboxRepository outboxRepository;
+    private final Counter deletedCounter;
+    private final long retentionDays;
+    private final int chunkSize;
+    private final int maxChunks;
+    private final long pauseMs;
+
+    public OutboxRetentionBatch(
+            OutboxRepository outboxRepository,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.retention.retention-days:7}") long retentionDays,
+            @Value("${outbox.retention.chunk-size:5000}") int chunkSize,
+            @Value("${outbox.retention.max-chunks:200}") int maxChunks,
+            @Value("${outbox.retention.pause-ms:100}") long pauseMs) {
+        this.outboxRepository = outboxRepository;
+        this.deletedCounter = meterRegistry.counter(DELETED);
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+        this.pauseMs = pauseMs;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.retention.interval-ms:3600000}")
+    public int purgeProcessedOutbox() {
+        LocalDateTime processedBefore = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            int deleted = outboxRepository.deleteProcessedBefore(processedBefore, chunkSize);
+            total += deleted;
+            deletedCounter.increment(deleted);
+
+            if (deleted < chunkSize || !pause()) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Outbox 정리 완료: processedBefore={}, 삭제={}", processedBefore, total);
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.loopers.infrastructure.batch;
 import com.loopers.infrastructure.product.ProductJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,9 +11,16 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * 좋아요 수(total_likes) 정합성 보정
+ * <p>
+ * products 전체를 product_likes 와 집계해 비교하므로 무겁고, 고친 값을 캐시에 반영하지 않습니다.
+ * 그래서 product.likes.consistency-batch.enabled=true 일 때만 등록합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "product.likes.consistency-batch.enabled", havingValue = "true")
 public class ProductLikesConsistencyBatch {
     private final ProductJpaRepository productRepository;
 
@@ -0,0 +1,16 @@
+package com.loopers.infrastructure.cache;
+
+/**
+ * 캐시 조회 결과
+ *
+ * @param value        캐시된 값
+ * @param refreshAhead 만료 전에 백그라운드로 미리 갱신해야 하는지 여부 (XFetch 판정 결과)
+ */
+public record CacheEntry<T>(
+        T value,
+        boolean refreshAhead
+) {
+    public static <T> CacheEntry<T> fresh(T value) {
+        return new CacheEntry<>(value, false);
+    }
+}
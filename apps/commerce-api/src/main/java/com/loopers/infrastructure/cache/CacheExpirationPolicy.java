@@ -0,0 +1,69 @@
+package com.loopers.infrastructure.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 캐시 만료 정책
+ * <p>
+ * 1. TTL Jitter: 같은 시점에 저장된 키들이 동시에 만료되지 않도록 TTL 에 무작위 여유를 더합니다.
+ * 2. XFetch (확률적 조기 갱신): 만료가 가까울수록, 재계산 비용(delta)이 클수록 높은 확률로 미리 갱신합니다.
+ *    now - delta * beta * ln(rand) >= expiresAt 이면 갱신 대상입니다.
+ *    측정한 DB 조회 시간은 수 ms 라 그대로 쓰면 비동기 갱신이 끝나기 전에 만료되므로,
+ *    delta 는 최소 기본 TTL * min-delta-ratio 로 잡습니다.
+ */
+@Component
+public class CacheExpirationPolicy {
+
+    private final Duration baseTtl;
+    private final double jitterRatio;
+    private final boolean earlyRefreshEnabled;
+    private final double beta;
+    private final long minDeltaMillis;
+
+    public CacheExpirationPolicy(
+            @Value("${cache.product.ttl-minutes:5}") int ttlMinutes,
+            @Value("${cache.product.ttl-jitter-ratio:0.1}") double jitterRatio,
+            @Value("${cache.product.early-refresh.enabled:true}") boolean earlyRefreshEnabled,
+            @Value("${cache.product.early-refresh.beta:1.0}") double beta,
+            @Value("${cache.product.early-refresh.min-delta-ratio:0.05}") double minDeltaRatio) {
+        this.baseTtl = Duration.ofMinutes(ttlMinutes);
+        this.jitterRatio = jitterRatio;
+        this.earlyRefreshEnabled = earlyRefreshEnabled;
+        this.beta = beta;
+        this.minDeltaMillis = (long) (baseTtl.toMillis() * minDeltaRatio);
+    }
+
+    /**
+     * 기본 TTL + [0, 기본 TTL * jitterRatio) 범위의 무작위 시간
+     */
+    public Duration nextTtl() {
+        long baseMillis = baseTtl.toMillis();
+        long jitterMillis = (long) (baseMillis * jitterRatio * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofMillis(baseMillis + jitterMillis);
+    }
+
+    /**
+     * jitter 를 포함한 최대 TTL
+     */
+    public Duration maxTtl() {
+        return Duration.ofMillis((long) Math.ceil(baseTtl.toMillis() * (1 + jitterRatio)));
+    }
+
+    public boolean shouldRefreshEarly(long deltaMillis, long expiresAtMillis) {
+        return shouldRefreshEarly(deltaMillis, expiresAtMillis, System.currentTimeMillis(),
+                ThreadLocalRandom.current().nextDouble());
+    }
+
+    boolean shouldRefreshEarly(long deltaMillis, long expiresAtMillis, long nowMillis, double random) {
+        if (!earlyRefreshEnabled) {
+            return false;
+        }
+        // random 은 [0, 1) 이므로 ln(0) 을 피하기 위해 1 - random 을 사용 (범위 (0, 1])
+        double gap = -Math.max(deltaMillis, minDeltaMillis) * beta * Math.log(1.0 - random);
+        return nowMillis + gap >= expiresAtMillis;
+    }
+}
@@ -0,0 +1,51 @@
+package com.loopers.infrastructure.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 상품 캐시 무효화 메시지 구독
+ * <p>
+ * 어느 노드에서든 deleteProductDetail 이 호출되면 Redis 채널로 상품 ID가 발행되고,
+ * 모든 노드가 이를 받아 자신의 L1 캐시에서 해당 상품을 제거합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCacheInvalidationSubscriber implements MessageListener {
+
+    public static final String CHANNEL = "product:cache:invalidate";
+    public static final String ALL = "*";
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ProductDetailNearCache productDetailNearCache;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        if (ALL.equals(body)) {
+            productDetailNearCache.invalidateAll();
+            return;
+        }
+
+        try {
+            productDetailNearCache.invalidate(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 캐시 무효화 메시지 무시: {}", body);
+        }
+    }
+}
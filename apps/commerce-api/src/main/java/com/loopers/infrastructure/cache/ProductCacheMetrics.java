@@ -0,0 +1,36 @@
+package com.loopers.infrastructure.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 캐시 계층별 메트릭
+ * <p>
+ * tier 태그로 L1(로컬), L2(Redis)를 구분하여 hit/miss/eviction 을 집계합니다.
+ * monitoring 모듈의 prometheus 엔드포인트로 노출됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductCacheMetrics {
+
+    public static final String TIER_L1 = "l1";
+    public static final String TIER_L2 = "l2";
+
+    private static final String GETS = "product.cache.gets";
+    private static final String EVICTIONS = "product.cache.evictions";
+
+    private final MeterRegistry meterRegistry;
+
+    public void recordHit(String tier) {
+        meterRegistry.counter(GETS, "tier", tier, "result", "hit").increment();
+    }
+
+    public void recordMiss(String tier) {
+        meterRegistry.counter(GETS, "tier", tier, "result", "miss").increment();
+    }
+
+    public void recordEviction(String tier, String cause) {
+        meterRegistry.counter(EVICTIONS, "tier", tier, "cause", cause).increment();
+    }
+}
@@ -0,0 +1,71 @@
+package com.loopers.infrastructure.cache;
+
+import com.loopers.support.concurrent.ThreadFactories;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 캐시 백그라운드 갱신
+ * <p>
+ * XFetch 판정으로 조기 갱신 대상이 된 엔트리를 요청 스레드와 분리된 전용 스레드에서 다시 적재합니다.
+ * 요청은 기존 캐시 값을 즉시 반환하므로, 인기 키는 만료 전에 갱신되어 사용자에게 미스가 거의 보이지 않습니다.
+ * <p>
+ * 갱신은 최선 노력(best-effort)입니다. 같은 키가 이미 갱신 중이거나 큐가 가득 차면 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class ProductCacheRefresher implements DisposableBean {
+
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final SingleFlightCacheLoader singleFlightCacheLoader;
+    private final ThreadPoolExecutor executor;
+
+    public ProductCacheRefresher(
+            SingleFlightCacheLoader singleFlightCacheLoader,
+            @Value("${cache.product.early-refresh.threads:2}") int threads,
+            @Value("${cache.product.early-refresh.queue-capacity:100}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.singleFlightCacheLoader = singleFlightCacheLoader;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                ThreadFactories.named("product-cache-refresh", virtualThreads),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public void refreshAsync(String key, Runnable refresher) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    singleFlightCacheLoader.refresh(key, refresher);
+                } catch (Exception e) {
+                    log.warn("캐시 조기 갱신 실패: key={}, error={}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -1,39 +1,75 @@
 package com.loopers.infrastructure.cache;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.loopers.domain.product.ProductSortType;
 import com.loopers.interfaces.api.product.ProductDto;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * 상품 캐시 서비스
  * <p>
  * Redis를 사용하여 API 응답을 캐싱합니다.
  * Cache-Aside 패턴을 사용합니다.
+ * 상품 상세는 로컬 캐시(L1) → Redis(L2) 2단계로 조회합니다.
  */
 @Service
 public class ProductCacheService {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
-    private final Duration cacheTtl;
+    private final ProductDetailNearCache productDetailNearCache;
+    private final ProductCacheMetrics productCacheMetrics;
+    private final CacheExpirationPolicy cacheExpirationPolicy;
+    private final boolean idListMode;
 
     private static final String PRODUCT_DETAIL_KEY_PREFIX = "product:detail:";
     private static final String PRODUCT_LIST_KEY_PREFIX = "product:list:";
+    private static final String PRODUCT_LIST_VERSION_KEY_PREFIX = "product:list:version:";
+    private static final String PRODUCT_LIST_INDEX_KEY_PREFIX = "product:list:pages:";
+    private static final String UNKNOWN_VERSION = "unknown";
+
+    private static final String ENTRY_VALUE = "value";
+    private static final String ENTRY_DELTA = "delta";
+    private static final String ENTRY_EXPIRES_AT = "expiresAt";
 
     public ProductCacheService(
             RedisTemplate<String, String> redisTemplate,
             ObjectMapper objectMapper,
-            @Value("${cache.product.ttl-minutes:5}") int ttlMinutes) {
+            ProductDetailNearCache productDetailNearCache,
+            ProductCacheMetrics productCacheMetrics,
+            CacheExpirationPolicy cacheExpirationPolicy,
+            @Value("${cache.product.list.mode:response}") String listMode) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
-        this.cacheTtl = Duration.ofMinutes(ttlMinutes);
+        this.productDetailNearCache = productDetailNearCache;
+        this.productCacheMetrics = productCacheMetrics;
+        this.cacheExpirationPolicy = cacheExpirationPolicy;
+        this.idListMode = "ids".equalsIgnoreCase(listMode);
+    }
+
+    /**
+     * 상품 상세 캐시 키
+     */
+    public String productDetailKey(Long productId) {
+        return PRODUCT_DETAIL_KEY_PREFIX + productId;
     }
 
     /**
@@ -42,35 +78,44 @@ public class ProductCacheService {
      * Cache-Aside 패턴의 "읽기" 부분
      */
     public Optional<ProductDetailCache> getProductDetail(Long productId) {
-        String key = PRODUCT_DETAIL_KEY_PREFIX + productId;
+        return getProductDetailEntry(productId).map(CacheEntry::value);
+    }
 
-        try {
-            String cached = redisTemplate.opsForValue().get(key);
-            if (cached == null) {
-                return Optional.empty();
-            }
+    /**
+     * 상품 상세 캐시 조회 (조기 갱신 판정 포함)
+     * <p>
+     * L1 히트 시 네트워크와 역직렬화 없이 바로 반환하고, L2 히트 시 L1을 채웁니다.
+     * 조기 갱신 판정은 L2 엔트리 기준으로만 합니다.
+     */
+    public Optional<CacheEntry<ProductDetailCache>> getProductDetailEntry(Long productId) {
+        Optional<ProductDetailCache> nearCached = productDetailNearCache.get(productId);
+        if (nearCached.isPresent()) {
+            return nearCached.map(CacheEntry::fresh);
+        }
 
-            return Optional.of(objectMapper.readValue(cached, ProductDetailCache.class));
+        Optional<CacheEntry<ProductDetailCache>> entry =
+                readEntry(PRODUCT_DETAIL_KEY_PREFIX + productId, ProductDetailCache.class);
 
-        } catch (Exception e) {
+        if (entry.isEmpty()) {
+            productCacheMetrics.recordMiss(ProductCacheMetrics.TIER_L2);
             return Optional.empty();
         }
+
+        productCacheMetrics.recordHit(ProductCacheMetrics.TIER_L2);
+        productDetailNearCache.put(productId, entry.get().value());
+        return entry;
     }
 
     /**
      * 상품 상세 캐시 저장
      * <p>
      * Cache-Aside 패턴의 "쓰기" 부분
+     *
+     * @param computeMillis DB 조회에 걸린 시간 (조기 갱신 확률 계산에 사용)
      */
-    public void setProductDetail(Long productId, ProductDetailCache cache) {
-        String key = PRODUCT_DETAIL_KEY_PREFIX + productId;
-
-        try {
-            String value = objectMapper.writeValueAsString(cache);
-            redisTemplate.opsForValue().set(key, value, cacheTtl);
-
-        } catch (Exception e) {
-            // 캐시 저장 실패는 무시 (다음 요청에서 DB 조회)
+    public void setProductDetail(Long productId, ProductDetailCache cache, long computeMillis) {
+        if (writeEntry(PRODUCT_DETAIL_KEY_PREFIX + productId, cache, computeMillis)) {
+            productDetailNearCache.put(productId, cache);
         }
     }
 
@@ -78,12 +123,50 @@ public class ProductCacheService {
      * 상품 상세 캐시 삭제 (무효화)
      * <p>
      * 상품 정보가 변경되었을 때 캐시를 즉시 삭제합니다.
+     * 자신의 L1을 비우고, 다른 노드의 L1은 Pub/Sub 메시지로 무효화합니다.
      */
     public void deleteProductDetail(Long productId) {
         String key = PRODUCT_DETAIL_KEY_PREFIX + productId;
+        productDetailNearCache.invalidate(productId);
 
         try {
             redisTemplate.delete(key);
+            productCacheMetrics.recordEviction(ProductCacheMetrics.TIER_L2, "explicit");
+            redisTemplate.convertAndSend(ProductCacheInvalidationSubscriber.CHANNEL, String.valueOf(productId));
+        } catch (Exception e) {
+            // 캐시 삭제 실패는 무시
+        }
+    }
+
+    /**
+     * 여러 상품 상세 캐시 일괄 삭제
+     * <p>
+     * DEL 과 무효화 메시지 발행을 한 번의 파이프라인으로 보냅니다.
+     */
+    public void deleteProductDetails(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        productIds.forEach(productDetailNearCache::invalidate);
+
+        try {
+            List<String> keys = productIds.stream().map(this::productDetailKey).toList();
+
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    operations.delete(keys);
+                    for (Long productId : productIds) {
+                        operations.convertAndSend(ProductCacheInvalidationSubscriber.CHANNEL, String.valueOf(productId));
+                    }
+                    return null;
+                }
+            });
+
+            productIds.forEach(productId ->
+                    productCacheMetrics.recordEviction(ProductCacheMetrics.TIER_L2, "explicit"));
         } catch (Exception e) {
             // 캐시 삭제 실패는 무시
         }
@@ -92,67 +175,359 @@ public class ProductCacheService {
     /**
      * 모든 상품 목록 캐시 무효화
      * <p>
-     * totalLikes 같은 필드가 변경되었을 때 모든 목록 캐시를 무효화합니다.
-     * 좋아요 추가/제거 시 호출됨.
+     * 키를 지우지 않고 전역 세대 번호만 INCR 하므로 키스페이스 크기와 무관하게 O(1)입니다.
+     * 이전 세대의 목록 키는 더 이상 조회되지 않고 TTL로 자연 만료됩니다.
      */
     public void invalidateProductListCaches() {
+        incrementListVersion("all");
+    }
+
+    /**
+     * 특정 브랜드의 상품 목록 캐시 무효화
+     * <p>
+     * 브랜드 세대 번호만 INCR 하여 해당 브랜드 필터 목록만 무효화합니다.
+     * 전체 목록(브랜드 필터 없음)은 영향을 받지 않습니다.
+     */
+    public void invalidateBrandProductListCaches(Long brandId) {
+        incrementListVersion("brand:" + brandId);
+    }
+
+    /**
+     * 좋아요순 목록 캐시 무효화
+     * <p>
+     * totalLikes 변경은 좋아요순 정렬에만 영향을 주므로,
+     * 전체 좋아요순 목록과 해당 상품 브랜드의 좋아요순 목록만 무효화합니다.
+     * 최신순/가격순 목록은 유지됩니다.
+     */
+    public void invalidateLikesSortedListCaches(Long brandId) {
+        String sort = ProductSortType.LIKES_DESC.getValue();
+        incrementListVersion("all:" + sort);
+        if (brandId != null) {
+            incrementListVersion("brand:" + brandId + ":" + sort);
+        }
+    }
+
+    /**
+     * 특정 상품이 포함된 목록 캐시만 무효화
+     * <p>
+     * 목록 저장 시 기록해 둔 상품별 역인덱스(product:list:pages:{productId})로
+     * 해당 상품이 실제로 포함된, 아직 만료되지 않은 페이지만 삭제합니다.
+     */
+    public void invalidateProductListCachesContaining(Long productId) {
+        String indexKey = PRODUCT_LIST_INDEX_KEY_PREFIX + productId;
+
         try {
-            Set<String> listKeys = redisTemplate.keys(PRODUCT_LIST_KEY_PREFIX + "*");
-            if (listKeys != null && !listKeys.isEmpty()) {
-                redisTemplate.delete(listKeys);
+            Set<String> pageKeys = redisTemplate.opsForZSet()
+                    .rangeByScore(indexKey, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+            if (pageKeys != null && !pageKeys.isEmpty()) {
+                redisTemplate.delete(pageKeys);
             }
+            redisTemplate.delete(indexKey);
+        } catch (Exception e) {
+            // 캐시 무효화 실패는 무시
+        }
+    }
+
+    private void incrementListVersion(String scope) {
+        try {
+            redisTemplate.opsForValue().increment(PRODUCT_LIST_VERSION_KEY_PREFIX + scope);
         } catch (Exception e) {
             // 캐시 무효화 실패는 무시
         }
     }
 
     /**
-     * 상품 목록 전체 응답 캐시 조회 (Cache-Aside 패턴 최적화)
+     * 상품 목록 캐시 키 확정
+     * <p>
+     * 키에 포함되는 세대 번호를 한 번의 MGET으로 읽습니다.
+     * - 전체 목록: 전역 세대 + 전역 정렬별 세대
+     * - 브랜드 목록: 전역 세대 + 브랜드 세대 + 브랜드 정렬별 세대
+     * 모든 목록 키가 전역 세대를 포함하므로 전역 무효화 한 번으로 모든 목록이 무효화됩니다.
      */
-    public Optional<ProductDto.ProductListResponse> getProductListResponse(
-            Long brandId, String sort, int page, int size) {
-        String key = buildProductListResponseKey(brandId, sort, page, size);
+    public ProductListCacheKey resolveProductListKey(Long brandId, String sort, int page, int size) {
+        return new ProductListCacheKey(brandId, sort, page, size, readListVersion(brandId, sort));
+    }
+
+    private String readListVersion(Long brandId, String sort) {
+        List<String> versionKeys = brandId != null
+                ? List.of(
+                        PRODUCT_LIST_VERSION_KEY_PREFIX + "all",
+                        PRODUCT_LIST_VERSION_KEY_PREFIX + "brand:" + brandId,
+                        PRODUCT_LIST_VERSION_KEY_PREFIX + "brand:" + brandId + ":" + sort)
+                : List.of(
+                        PRODUCT_LIST_VERSION_KEY_PREFIX + "all",
+                        PRODUCT_LIST_VERSION_KEY_PREFIX + "all:" + sort);
 
         try {
-            String cached = redisTemplate.opsForValue().get(key);
-            if (cached == null) {
-                return Optional.empty();
+            List<String> versions = redisTemplate.opsForValue().multiGet(versionKeys);
+            if (versions == null) {
+                return UNKNOWN_VERSION;
             }
+            return versions.stream()
+                    .map(version -> version != null ? version : "0")
+                    .collect(Collectors.joining("."));
+        } catch (Exception e) {
+            return UNKNOWN_VERSION;
+        }
+    }
 
-            return Optional.of(
-                    objectMapper.readValue(cached, ProductDto.ProductListResponse.class)
-            );
+    /**
+     * 상품 목록 전체 응답 캐시 조회 (현재 세대 기준)
+     */
+    public Optional<ProductDto.ProductListResponse> getProductListResponse(
+            Long brandId,
+            String sort,
+            int page,
+            int size
+    ) {
+        return getProductListResponse(resolveProductListKey(brandId, sort, page, size));
+    }
 
-        } catch (Exception e) {
+    /**
+     * 상품 목록 전체 응답 캐시 조회 (Cache-Aside 패턴 최적화)
+     */
+    public Optional<ProductDto.ProductListResponse> getProductListResponse(ProductListCacheKey cacheKey) {
+        return getProductListEntry(cacheKey).map(CacheEntry::value);
+    }
+
+    /**
+     * 상품 목록 전체 응답 캐시 조회 (조기 갱신 판정 포함)
+     */
+    public Optional<CacheEntry<ProductDto.ProductListResponse>> getProductListEntry(ProductListCacheKey cacheKey) {
+        if (UNKNOWN_VERSION.equals(cacheKey.version())) {
             return Optional.empty();
         }
+
+        return readEntry(cacheKey.toRedisKey(), ProductDto.ProductListResponse.class);
     }
 
     /**
      * 상품 목록 전체 응답 캐시 저장
+     *
+     * @param computeMillis DB 조회에 걸린 시간 (조기 갱신 확률 계산에 사용)
      */
     public void setProductListResponse(
-            Long brandId, String sort, int page, int size,
-            ProductDto.ProductListResponse response) {
-        String key = buildProductListResponseKey(brandId, sort, page, size);
+            ProductListCacheKey cacheKey, ProductDto.ProductListResponse response, long computeMillis) {
+        if (UNKNOWN_VERSION.equals(cacheKey.version())) {
+            return;
+        }
+
+        String pageKey = cacheKey.toRedisKey();
+        if (writeEntry(pageKey, response, computeMillis)) {
+            List<Long> productIds = response.products().stream()
+                    .map(ProductDto.ProductResponse::id)
+                    .toList();
+            indexProductListPage(pageKey, productIds);
+        }
+    }
+
+    /**
+     * 목록 캐시 저장 방식
+     * <p>
+     * true 이면 목록 캐시에 상품 ID만 저장하고 응답은 상세 캐시로 조립합니다.
+     */
+    public boolean isIdListMode() {
+        return idListMode;
+    }
+
+    /**
+     * 상품 목록 ID 캐시 조회
+     */
+    public Optional<CacheEntry<ProductListIds>> getProductListIdsEntry(ProductListCacheKey cacheKey) {
+        if (UNKNOWN_VERSION.equals(cacheKey.version())) {
+            return Optional.empty();
+        }
+
+        return readEntry(cacheKey.toIdsRedisKey(), ProductListIds.class);
+    }
+
+    /**
+     * 상품 목록 ID 캐시 저장
+     *
+     * @param computeMillis DB 조회에 걸린 시간 (조기 갱신 확률 계산에 사용)
+     */
+    public void setProductListIds(ProductListCacheKey cacheKey, ProductListIds ids, long computeMillis) {
+        if (UNKNOWN_VERSION.equals(cacheKey.version())) {
+            return;
+        }
+
+        String pageKey = cacheKey.toIdsRedisKey();
+        if (writeEntry(pageKey, ids, computeMillis)) {
+            indexProductListPage(pageKey, ids.productIds());
+        }
+    }
+
+    /**
+     * 상품 상세 캐시 일괄 조회
+     * <p>
+     * L1에 없는 상품만 한 번의 MGET으로 L2에서 읽습니다.
+     * 반환 맵에 없는 상품은 캐시 미스입니다.
+     */
+    public Map<Long, ProductDetailCache> getProductDetails(List<Long> productIds) {
+        Map<Long, ProductDetailCache> found = new HashMap<>();
+        List<Long> remoteIds = new ArrayList<>();
+
+        for (Long productId : productIds) {
+            productDetailNearCache.get(productId).ifPresentOrElse(
+                    detail -> found.put(productId, detail),
+                    () -> remoteIds.add(productId)
+            );
+        }
+
+        if (remoteIds.isEmpty()) {
+            return found;
+        }
+
+        try {
+            List<String> keys = remoteIds.stream().map(this::productDetailKey).toList();
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+            for (int i = 0; i < remoteIds.size(); i++) {
+                Long productId = remoteIds.get(i);
+                Optional<CacheEntry<ProductDetailCache>> entry = values == null
+                        ? Optional.empty()
+                        : parseEntry(values.get(i), ProductDetailCache.class);
+
+                if (entry.isPresent()) {
+                    productCacheMetrics.recordHit(ProductCacheMetrics.TIER_L2);
+                    productDetailNearCache.put(productId, entry.get().value());
+                    found.put(productId, entry.get().value());
+                } else {
+                    productCacheMetrics.recordMiss(ProductCacheMetrics.TIER_L2);
+                }
+            }
+        } catch (Exception e) {
+            // 조회 실패 시 나머지는 미스로 처리 (DB 조회)
+        }
+
+        return found;
+    }
+
+    /**
+     * 상품 상세 캐시 일괄 저장
+     * <p>
+     * 한 번의 파이프라인으로 저장합니다.
+     */
+    public void setProductDetails(Map<Long, ProductDetailCache> details, long computeMillis) {
+        if (details.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<String, String> encoded = new HashMap<>();
+            Map<String, Duration> ttls = new HashMap<>();
+            for (Map.Entry<Long, ProductDetailCache> detail : details.entrySet()) {
+                String key = productDetailKey(detail.getKey());
+                Duration ttl = cacheExpirationPolicy.nextTtl();
+                encoded.put(key, encodeEntry(detail.getValue(), computeMillis, ttl));
+                ttls.put(key, ttl);
+            }
+
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    encoded.forEach((key, value) -> operations.opsForValue().set(key, value, ttls.get(key)));
+                    return null;
+                }
+            });
+
+            details.forEach(productDetailNearCache::put);
+        } catch (Exception e) {
+            // 캐시 저장 실패는 무시 (다음 요청에서 DB 조회)
+        }
+    }
+
+    /**
+     * 상품 → 목록 페이지 역인덱스 기록
+     * <p>
+     * 페이지에 포함된 상품마다 ZADD(score = 페이지 만료 시각) 하여, 재고 변경 시 해당 상품이 포함된 페이지만 찾아 지울 수 있게 합니다.
+     * 좋아요마다 세대가 바뀌어 새 페이지 키가 계속 추가되므로, 기록할 때마다 이미 만료된 페이지를 ZREMRANGEBYSCORE 로 걷어내
+     * 인덱스 크기를 Redis 에 실제로 살아 있는 페이지 수 이내로 유지합니다.
+     */
+    private void indexProductListPage(String pageKey, List<Long> productIds) {
+        long maxTtlMillis = cacheExpirationPolicy.maxTtl().toMillis();
+        long now = System.currentTimeMillis();
+        double pageExpiresAt = now + maxTtlMillis;
 
         try {
-            String value = objectMapper.writeValueAsString(response);
-            redisTemplate.opsForValue().set(key, value, cacheTtl);
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    for (Long productId : productIds) {
+                        String indexKey = PRODUCT_LIST_INDEX_KEY_PREFIX + productId;
+                        operations.opsForZSet().removeRangeByScore(indexKey, Double.NEGATIVE_INFINITY, now);
+                        operations.opsForZSet().add(indexKey, pageKey, pageExpiresAt);
+                        operations.expire(indexKey, maxTtlMillis, TimeUnit.MILLISECONDS);
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            // 인덱스 기록 실패 시 해당 페이지는 TTL 만료까지 유지됨
+        }
+    }
+
+    /**
+     * 캐시 엔트리 저장
+     * <p>
+     * 값과 함께 재계산 시간(delta), 만료 시각(expiresAt)을 저장하여 XFetch 판정에 사용합니다.
+     * TTL 에는 jitter 를 더해 같은 시점에 저장된 키들이 동시에 만료되지 않게 합니다.
+     */
+    private boolean writeEntry(String key, Object payload, long computeMillis) {
+        try {
+            Duration ttl = cacheExpirationPolicy.nextTtl();
+            redisTemplate.opsForValue().set(key, encodeEntry(payload, computeMillis, ttl), ttl);
+            return true;
 
         } catch (Exception e) {
-            // 캐시 저장 실패는 무시
+            // 캐시 저장 실패는 무시 (다음 요청에서 DB 조회)
+            return false;
         }
     }
 
+    private String encodeEntry(Object payload, long computeMillis, Duration ttl) throws JsonProcessingException {
+        ObjectNode entry = objectMapper.createObjectNode();
+        entry.set(ENTRY_VALUE, objectMapper.valueToTree(payload));
+        entry.put(ENTRY_DELTA, computeMillis);
+        entry.put(ENTRY_EXPIRES_AT, System.currentTimeMillis() + ttl.toMillis());
+        return objectMapper.writeValueAsString(entry);
+    }
+
     /**
-     * 상품 목록 전체 응답 캐시 키 생성
+     * 캐시 엔트리 조회
      */
-    private String buildProductListResponseKey(
-            Long brandId, String sort, int page, int size) {
-        String brandPart = brandId != null ? "brand:" + brandId : "all";
-        return String.format("%sresponse:%s:%s:page:%d:size:%d",
-                PRODUCT_LIST_KEY_PREFIX, brandPart, sort, page, size);
+    private <T> Optional<CacheEntry<T>> readEntry(String key, Class<T> type) {
+        try {
+            return parseEntry(redisTemplate.opsForValue().get(key), type);
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    private <T> Optional<CacheEntry<T>> parseEntry(String cached, Class<T> type) {
+        if (cached == null) {
+            return Optional.empty();
+        }
+
+        try {
+            JsonNode entry = objectMapper.readTree(cached);
+            if (!entry.has(ENTRY_VALUE)) {
+                return Optional.empty();
+            }
+
+            T value = objectMapper.treeToValue(entry.get(ENTRY_VALUE), type);
+            boolean refreshAhead = cacheExpirationPolicy.shouldRefreshEarly(
+                    entry.path(ENTRY_DELTA).asLong(),
+                    entry.path(ENTRY_EXPIRES_AT).asLong()
+            );
+
+            return Optional.of(new CacheEntry<>(value, refreshAhead));
+
+        } catch (Exception e) {
+            return Optional.empty();
+        }
     }
 
     /**
@@ -162,6 +537,8 @@ public class ProductCacheService {
      * product:detail:*, product:list:* 패턴의 모든 키 삭제
      */
     public void clearAllProductCache() {
+        productDetailNearCache.invalidateAll();
+
         try {
             Set<String> detailKeys = redisTemplate.keys(PRODUCT_DETAIL_KEY_PREFIX + "*");
             if (detailKeys != null && !detailKeys.isEmpty()) {
@@ -173,6 +550,8 @@ public class ProductCacheService {
                 redisTemplate.delete(listKeys);
             }
 
+            redisTemplate.convertAndSend(ProductCacheInvalidationSubscriber.CHANNEL, ProductCacheInvalidationSubscriber.ALL);
+
         } catch (Exception e) {
             // 캐시 삭제 실패는 무시
         }
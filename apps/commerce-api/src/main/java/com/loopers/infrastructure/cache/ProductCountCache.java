@@ -0,0 +1,70 @@
+package com.loopers.infrastructure.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 상품 개수 캐시
+ * <p>
+ * 전체/브랜드별 상품 개수를 짧은 TTL로 캐싱하여 목록 조회마다 COUNT 스캔을 하지 않도록 합니다.
+ * TTL 동안은 근사값이며, 상품 등록/삭제는 TTL 이 지나면 반영됩니다.
+ */
+@Component
+public class ProductCountCache {
+
+    private static final String PRODUCT_COUNT_KEY_PREFIX = "product:list:count:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductCountMode mode;
+    private final Duration ttl;
+
+    public ProductCountCache(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${cache.product.count.mode:exact}") String mode,
+            @Value("${cache.product.count.ttl-seconds:60}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.mode = ProductCountMode.from(mode);
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public ProductCountMode mode() {
+        return mode;
+    }
+
+    /**
+     * 상품 개수 조회
+     *
+     * @param brandId 브랜드 ID (전체면 null)
+     * @param loader  캐시 미스 시 DB COUNT
+     */
+    public long getCount(Long brandId, LongSupplier loader) {
+        String key = countKey(brandId);
+
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            // 조회 실패 시 DB COUNT
+        }
+
+        long count = loader.getAsLong();
+
+        try {
+            redisTemplate.opsForValue().set(key, String.valueOf(count), ttl);
+        } catch (Exception e) {
+            // 캐시 저장 실패는 무시 (다음 요청에서 DB COUNT)
+        }
+
+        return count;
+    }
+
+    private String countKey(Long brandId) {
+        return PRODUCT_COUNT_KEY_PREFIX + (brandId != null ? "brand:" + brandId : "all");
+    }
+}
@@ -0,0 +1,24 @@
+package com.loopers.infrastructure.cache;
+
+/**
+ * 상품 목록 전체 개수 계산 방식
+ * <p>
+ * - EXACT: 매 조회마다 COUNT 쿼리 (Page)
+ * - CACHED: 개수를 Redis에 짧게 캐싱 (TTL 동안 근사값)
+ * - NONE: 개수를 세지 않고 다음 페이지 존재 여부만 반환 (Slice)
+ */
+public enum ProductCountMode {
+    EXACT,
+    CACHED,
+    NONE;
+
+    public static ProductCountMode from(String value) {
+        for (ProductCountMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+
+        return EXACT;
+    }
+}
@@ -0,0 +1,75 @@
+package com.loopers.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 상품 상세 로컬(L1) 캐시
+ * <p>
+ * Redis(L2) 앞단에서 인기 상품의 상세 정보를 JVM 메모리에 보관합니다.
+ * 크기 제한 + TTL 로 만료되며, 다른 노드의 변경은 Pub/Sub 무효화 메시지로 반영됩니다.
+ * 무효화 메시지가 유실되더라도 TTL 이후에는 L2에서 다시 읽어옵니다.
+ */
+@Component
+public class ProductDetailNearCache {
+
+    private final boolean enabled;
+    private final Cache<Long, ProductDetailCache> cache;
+    private final ProductCacheMetrics metrics;
+
+    public ProductDetailNearCache(
+            ProductCacheMetrics metrics,
+            @Value("${cache.product.near.enabled:true}") boolean enabled,
+            @Value("${cache.product.near.max-size:1000}") long maxSize,
+            @Value("${cache.product.near.ttl-seconds:10}") long ttlSeconds) {
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .executor(Runnable::run)
+                .removalListener((Long key, ProductDetailCache value, RemovalCause cause) -> {
+                    if (cause.wasEvicted()) {
+                        metrics.recordEviction(ProductCacheMetrics.TIER_L1, cause.name().toLowerCase(Locale.ROOT));
+                    }
+                })
+                .build();
+    }
+
+    public Optional<ProductDetailCache> get(Long productId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        ProductDetailCache cached = cache.getIfPresent(productId);
+        if (cached == null) {
+            metrics.recordMiss(ProductCacheMetrics.TIER_L1);
+            return Optional.empty();
+        }
+
+        metrics.recordHit(ProductCacheMetrics.TIER_L1);
+        return Optional.of(cached);
+    }
+
+    public void put(Long productId, ProductDetailCache detail) {
+        if (!enabled) {
+            return;
+        }
+        cache.put(productId, detail);
+    }
+
+    public void invalidate(Long productId) {
+        cache.invalidate(productId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,39 @@
+package com.loopers.infrastructure.cache;
+
+/**
+ * 상품 목록 캐시 키
+ * <p>
+ * 조회 조건과 조회 시점의 목록 세대(version)를 함께 담습니다.
+ * 세대는 DB 조회 전에 확정되므로, 조회 도중 무효화가 일어나면 결과는 이전 세대 키에 저장되어 읽히지 않습니다.
+ */
+public record ProductListCacheKey(
+        Long brandId,
+        String sort,
+        int page,
+        int size,
+        String version
+) {
+
+    private static final String RESPONSE_PREFIX = "product:list:response:";
+    private static final String IDS_PREFIX = "product:list:ids:";
+
+    /**
+     * 전체 응답 캐시 키
+     */
+    public String toRedisKey() {
+        return buildKey(RESPONSE_PREFIX);
+    }
+
+    /**
+     * ID 목록 캐시 키
+     */
+    public String toIdsRedisKey() {
+        return buildKey(IDS_PREFIX);
+    }
+
+    private String buildKey(String prefix) {
+        String brandPart = brandId != null ? "brand:" + brandId : "all";
+        return String.format("%sv%s:%s:%s:page:%d:size:%d",
+                prefix, version, brandPart, sort, page, size);
+    }
+}
@@ -0,0 +1,16 @@
+package com.loopers.infrastructure.cache;
+
+import java.util.List;
+
+/**
+ * 상품 목록 ID 캐시
+ * <p>
+ * 목록 페이지의 정렬된 상품 ID와 전체 개수만 보관합니다.
+ * 상품 정보는 상세 캐시에서 채워 응답을 조립합니다.
+ */
+public record ProductListIds(
+        List<Long> productIds,
+        long totalCount,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,181 @@
+package com.loopers.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 미스 요청 병합 (Single-Flight)
+ * <p>
+ * 같은 키에 대한 캐시 미스가 동시에 몰리면 노드당 한 스레드만 DB에서 다시 적재하고,
+ * 나머지 스레드는 같은 Future 의 결과를 기다립니다.
+ * <p>
+ * 분산 모드에서는 짧은 Redis 락(SET NX PX)으로 노드 간에도 적재 스레드를 하나로 제한합니다.
+ * 락을 얻지 못한 노드는 잠시 캐시가 채워지기를 기다리고, 그래도 비어 있으면 직접 적재합니다.
+ */
+@Slf4j
+@Component
+public class SingleFlightCacheLoader {
+
+    private static final String LOCK_KEY_PREFIX = "lock:";
+    private static final long POLL_INTERVAL_MS = 20;
+
+    private static final String RELEASE_LOCK_SCRIPT = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """;
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<Long> releaseLockScript;
+    private final boolean distributedLockEnabled;
+    private final Duration lockTtl;
+    private final long lockWaitMs;
+
+    public SingleFlightCacheLoader(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${cache.product.single-flight.distributed-lock-enabled:true}") boolean distributedLockEnabled,
+            @Value("${cache.product.single-flight.lock-ttl-ms:3000}") long lockTtlMs,
+            @Value("${cache.product.single-flight.lock-wait-ms:300}") long lockWaitMs) {
+        this.redisTemplate = redisTemplate;
+        this.releaseLockScript = new DefaultRedisScript<>(RELEASE_LOCK_SCRIPT, Long.class);
+        this.distributedLockEnabled = distributedLockEnabled;
+        this.lockTtl = Duration.ofMillis(lockTtlMs);
+        this.lockWaitMs = lockWaitMs;
+    }
+
+    /**
+     * 캐시 미스 시 적재
+     *
+     * @param key         캐시 키 (병합 단위)
+     * @param cacheReader 다른 스레드/노드가 채운 캐시를 다시 확인하는 함수
+     * @param loader      DB 조회 후 캐시에 저장하고 결과를 반환하는 함수
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String key, Supplier<Optional<T>> cacheReader, Supplier<T> loader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+
+        if (existing != null) {
+            return (T) await(existing);
+        }
+
+        try {
+            T result = distributedLockEnabled
+                    ? loadWithLock(key, cacheReader, loader)
+                    : loader.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 백그라운드 갱신
+     * <p>
+     * 다른 노드가 이미 같은 키를 갱신 중(락 보유)이면 건너뜁니다.
+     *
+     * @return 갱신을 실행했는지 여부
+     */
+    public boolean refresh(String key, Runnable refresher) {
+        String lockKey = LOCK_KEY_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+
+        if (distributedLockEnabled && !tryLock(lockKey, token)) {
+            return false;
+        }
+
+        try {
+            refresher.run();
+            return true;
+        } finally {
+            if (distributedLockEnabled) {
+                unlock(lockKey, token);
+            }
+        }
+    }
+
+    private <T> T loadWithLock(String key, Supplier<Optional<T>> cacheReader, Supplier<T> loader) {
+        String lockKey = LOCK_KEY_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+
+        if (tryLock(lockKey, token)) {
+            try {
+                return cacheReader.get().orElseGet(loader);
+            } finally {
+                unlock(lockKey, token);
+            }
+        }
+
+        return waitForCache(cacheReader).orElseGet(loader);
+    }
+
+    private <T> Optional<T> waitForCache(Supplier<Optional<T>> cacheReader) {
+        long deadline = System.currentTimeMillis() + lockWaitMs;
+
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+
+            Optional<T> cached = cacheReader.get();
+            if (cached.isPresent()) {
+                return cached;
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private boolean tryLock(String lockKey, String token) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTtl));
+        } catch (Exception e) {
+            // Redis 장애 시 락 없이 진행 (노드 내 병합은 유지)
+            return true;
+        }
+    }
+
+    private void unlock(String lockKey, String token) {
+        try {
+            redisTemplate.execute(releaseLockScript, List.of(lockKey), token);
+        } catch (Exception e) {
+            log.warn("캐시 적재 락 해제 실패, TTL 만료 대기: {}", lockKey);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -46,7 +46,7 @@ public class StockDepletedConsumer {
 
     private void processStockDepletedEvent(StockDepletedEvent event) {
         productCacheService.deleteProductDetail(event.getProductId());
-        productCacheService.invalidateProductListCaches();
+        productCacheService.invalidateProductListCachesContaining(event.getProductId());
         log.info("재고 소진으로 캐시 무효화: productId={}", event.getProductId());
     }
 }
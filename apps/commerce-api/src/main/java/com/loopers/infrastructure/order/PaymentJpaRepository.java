@@ -2,8 +2,11 @@ package com.loopers.infrastructure.order;
 
 import com.loopers.domain.order.Payment;
 import com.loopers.domain.order.PaymentStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +19,8 @@ public interface PaymentJpaRepository extends JpaRepository<Payment, Long> {
     List<Payment> findByUserIdAndStatus(String userId, PaymentStatus status);
 
     Optional<Payment> findByPgTransactionId(String pgTransactionId);
+
+    @Query("SELECT p FROM Payment p WHERE p.status = :status AND p.id > :afterId " +
+            "AND p.createdAt < :createdBefore AND p.pgTransactionId IS NOT NULL ORDER BY p.id")
+    List<Payment> findByStatusAfterId(PaymentStatus status, Long afterId, ZonedDateTime createdBefore, Limit limit);
 }
@@ -4,8 +4,10 @@ import com.loopers.domain.order.Payment;
 import com.loopers.domain.order.PaymentRepository;
 import com.loopers.domain.order.PaymentStatus;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,4 +46,9 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     public Optional<Payment> findByPgTransactionId(String pgTransactionId) {
         return paymentJpaRepository.findByPgTransactionId(pgTransactionId);
     }
+
+    @Override
+    public List<Payment> findPendingBefore(ZonedDateTime createdBefore, Long afterId, int limit) {
+        return paymentJpaRepository.findByStatusAfterId(PaymentStatus.PENDING, afterId, createdBefore, Limit.of(limit));
+    }
 }
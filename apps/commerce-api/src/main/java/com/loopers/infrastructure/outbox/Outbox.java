@@ -6,13 +6,19 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "outbox")
+@Table(name = "outbox", indexes = {
+        @Index(name = "idx_outbox_status_id", columnList = "status, id"),
+        @Index(name = "idx_outbox_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_outbox_status_processed_at", columnList = "status, processed_at"),
+        @Index(name = "idx_outbox_aggregate_status", columnList = "aggregate_type, aggregate_id, status")
+})
 public class Outbox {
 
     @Id
@@ -24,30 +30,63 @@ public class Outbox {
     private String eventType;
     private String topic;
 
+    /**
+     * Kafka 메시지 키 (relay 가 페이로드를 읽지 않고 바로 사용)
+     */
+    private String partitionKey;
+
+    @Enumerated(EnumType.STRING)
+    private OutboxPayloadFormat payloadFormat;
+
     @Lob
     private String payload;
 
+    @Lob
+    private byte[] binaryPayload;
+
     @Enumerated(EnumType.STRING)
     private OutboxStatus status;
 
     private LocalDateTime createdAt;
     private LocalDateTime processedAt;
 
+    /**
+     * 발행을 맡은 relay 워커와 그 점유 만료 시각 (만료되면 다른 워커가 다시 가져감)
+     */
+    private String leaseOwner;
+    private LocalDateTime leaseUntil;
+
     protected Outbox() {
     }
 
-    private Outbox(String aggregateType, String aggregateId, String eventType, String topic, String payload) {
+    private Outbox(String aggregateType, String aggregateId, String partitionKey, String eventType, String topic,
+                   OutboxPayloadFormat payloadFormat, String payload, byte[] binaryPayload) {
         this.aggregateType = aggregateType;
         this.aggregateId = aggregateId;
+        this.partitionKey = partitionKey;
         this.eventType = eventType;
         this.topic = topic;
+        this.payloadFormat = payloadFormat;
         this.payload = payload;
+        this.binaryPayload = binaryPayload;
         this.status = OutboxStatus.PENDING;
         this.createdAt = LocalDateTime.now();
     }
 
     public static Outbox create(String aggregateType, String aggregateId, String eventType, String topic, String payload) {
-        return new Outbox(aggregateType, aggregateId, eventType, topic, payload);
+        return createJson(aggregateType, aggregateId, aggregateId, eventType, topic, payload);
+    }
+
+    public static Outbox createJson(String aggregateType, String aggregateId, String partitionKey,
+                                    String eventType, String topic, String payload) {
+        return new Outbox(aggregateType, aggregateId, partitionKey, eventType, topic,
+                OutboxPayloadFormat.JSON, payload, null);
+    }
+
+    public static Outbox createBinary(String aggregateType, String aggregateId, String partitionKey,
+                                      String eventType, String topic, byte[] payload) {
+        return new Outbox(aggregateType, aggregateId, partitionKey, eventType, topic,
+                OutboxPayloadFormat.BINARY, null, payload);
     }
 
     public void markProcessed() {
@@ -78,10 +117,28 @@ public class Outbox {
         return topic;
     }
 
+    /**
+     * 파티션 키 (컬럼 추가 전 행은 aggregateId)
+     */
+    public String getPartitionKey() {
+        return partitionKey != null ? partitionKey : aggregateId;
+    }
+
+    /**
+     * 페이로드 인코딩 (컬럼 추가 전 행은 JSON)
+     */
+    public OutboxPayloadFormat getPayloadFormat() {
+        return payloadFormat != null ? payloadFormat : OutboxPayloadFormat.JSON;
+    }
+
     public String getPayload() {
         return payload;
     }
 
+    public byte[] getBinaryPayload() {
+        return binaryPayload;
+    }
+
     public OutboxStatus getStatus() {
         return status;
     }
@@ -93,4 +150,12 @@ public class Outbox {
     public LocalDateTime getProcessedAt() {
         return processedAt;
     }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public LocalDateTime getLeaseUntil() {
+        return leaseUntil;
+    }
 }
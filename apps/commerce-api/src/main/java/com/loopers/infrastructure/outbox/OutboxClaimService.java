@@ -0,0 +1,47 @@
+package com.loopers.infrastructure.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outbox 점유(claim)
+ * <p>
+ * 여러 노드/워커의 relay 가 같은 PENDING 행을 중복 발행하지 않도록, 짧은 트랜잭션에서 행을 SKIP LOCKED 로 골라
+ * 점유자(lease_owner)와 만료 시각(lease_until)을 기록합니다. 발행은 트랜잭션 밖에서 하고,
+ * 노드가 죽어 점유가 만료되면 다른 워커가 다시 가져갑니다.
+ * <p>
+ * 같은 aggregate 의 이벤트가 여러 워커에서 동시에 발행되지 않도록, aggregate 의 첫 PENDING 행을 잠근 워커만
+ * 그 aggregate 의 뒤따르는 행까지 가져갑니다.
+ * <p>
+ * READ COMMITTED 로 실행해, 점유 쿼리가 훑기만 하고 조건에 맞지 않은 행의 잠금은 바로 풀리게 합니다.
+ * (REPEATABLE READ 에서는 훑은 행을 커밋까지 잠가, 다른 워커의 뒤따르는 행 잠금과 서로 기다리게 됩니다.)
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxClaimService {
+
+    private final OutboxRepository outboxRepository;
+
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public List<Outbox> claim(String owner, int limit, long leaseSeconds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> headIds = outboxRepository.findClaimableHeadIds(now, limit);
+        if (headIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = new ArrayList<>(headIds);
+        if (headIds.size() < limit) {
+            ids.addAll(outboxRepository.findClaimableFollowerIds(headIds, now, limit - headIds.size()));
+        }
+
+        outboxRepository.lease(ids, owner, now.plusSeconds(leaseSeconds));
+        return outboxRepository.findByIdInOrderByIdAsc(ids);
+    }
+}
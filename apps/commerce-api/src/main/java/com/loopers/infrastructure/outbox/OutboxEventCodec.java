@@ -0,0 +1,232 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.domain.like.event.ProductLikedEvent;
+import com.loopers.domain.order.event.OrderCompletedEvent;
+import com.loopers.domain.product.event.StockDepletedEvent;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Outbox 이벤트 바이너리 코덱
+ * <p>
+ * 필드 이름 없이 이벤트별로 정해진 순서로 값만 씁니다. 정수는 가변 길이(zigzag varint), 문자열은 길이 + UTF-8,
+ * 시각은 epoch 초 + 나노초입니다. 첫 바이트는 포맷 버전, 두 번째 바이트는 이벤트 종류입니다.
+ * 필드를 바꿀 때는 버전을 올리고 이전 버전 읽기를 남겨 둬야 합니다.
+ */
+@Component
+public class OutboxEventCodec {
+
+    private static final byte VERSION = 1;
+    private static final byte PRODUCT_LIKED = 1;
+    private static final byte ORDER_COMPLETED = 2;
+    private static final byte STOCK_DEPLETED = 3;
+
+    public boolean supports(Class<?> type) {
+        return type == ProductLikedEvent.class
+                || type == OrderCompletedEvent.class
+                || type == StockDepletedEvent.class;
+    }
+
+    public byte[] encode(Object event) {
+        Writer writer = new Writer();
+        writer.writeByte(VERSION);
+
+        switch (event) {
+            case ProductLikedEvent liked -> {
+                writer.writeByte(PRODUCT_LIKED);
+                writer.writeNullableLong(liked.getProductId());
+                writer.writeNullableLong(liked.getUserId());
+                writer.writeByte(liked.isLiked() ? 1 : 0);
+                writer.writeDateTime(liked.getOccurredAt());
+            }
+            case OrderCompletedEvent completed -> {
+                writer.writeByte(ORDER_COMPLETED);
+                writer.writeNullableLong(completed.getOrderId());
+                writer.writeString(completed.getUserId());
+                writer.writeLong(completed.getTotalAmount());
+                writer.writeLong(completed.getDiscountAmount());
+                writer.writeLong(completed.getPaymentAmount());
+                writer.writeLong(completed.getItems().size());
+                for (OrderCompletedEvent.OrderItemInfo item : completed.getItems()) {
+                    writer.writeNullableLong(item.getProductId());
+                    writer.writeNullableLong(item.getQuantity());
+                }
+                writer.writeDateTime(completed.getOccurredAt());
+            }
+            case StockDepletedEvent depleted -> {
+                writer.writeByte(STOCK_DEPLETED);
+                writer.writeNullableLong(depleted.getProductId());
+                writer.writeDateTime(depleted.getOccurredAt());
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 이벤트입니다: " + event.getClass().getName());
+        }
+
+        return writer.toByteArray();
+    }
+
+    public <T> T decode(byte[] bytes, Class<T> type) {
+        Reader reader = new Reader(bytes);
+        byte version = reader.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 페이로드 버전입니다: " + version);
+        }
+
+        byte kind = reader.readByte();
+        Object event = switch (kind) {
+            case PRODUCT_LIKED -> ProductLikedEvent.of(
+                    reader.readNullableLong(),
+                    reader.readNullableLong(),
+                    reader.readByte() == 1,
+                    reader.readDateTime());
+            case ORDER_COMPLETED -> {
+                Long orderId = reader.readNullableLong();
+                String userId = reader.readString();
+                long totalAmount = reader.readLong();
+                long discountAmount = reader.readLong();
+                long paymentAmount = reader.readLong();
+                int itemCount = (int) reader.readLong();
+                List<OrderCompletedEvent.OrderItemInfo> items = new ArrayList<>(itemCount);
+                for (int i = 0; i < itemCount; i++) {
+                    items.add(new OrderCompletedEvent.OrderItemInfo(reader.readNullableLong(), reader.readNullableLong()));
+                }
+                yield OrderCompletedEvent.of(orderId, userId, totalAmount, discountAmount, paymentAmount,
+                        items, reader.readDateTime());
+            }
+            case STOCK_DEPLETED -> StockDepletedEvent.of(reader.readNullableLong(), reader.readDateTime());
+            default -> throw new IllegalArgumentException("알 수 없는 이벤트 종류입니다: " + kind);
+        };
+
+        if (!type.isInstance(event)) {
+            throw new IllegalArgumentException(
+                    "페이로드 이벤트(" + event.getClass().getSimpleName() + ")가 요청 타입(" + type.getSimpleName() + ")과 다릅니다.");
+        }
+        return type.cast(event);
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer = new byte[64];
+        private int position;
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        /**
+         * null 은 0, 값은 zigzag + 1
+         */
+        void writeNullableLong(Long value) {
+            writeVarLong(value == null ? 0 : ((value << 1) ^ (value >> 63)) + 1);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeDateTime(LocalDateTime value) {
+            writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            writeVarLong(value.getNano());
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        private void ensureCapacity(int additional) {
+            if (position + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        byte readByte() {
+            if (position >= buffer.length) {
+                throw new IllegalArgumentException("페이로드가 잘렸습니다.");
+            }
+            return buffer[position++];
+        }
+
+        long readLong() {
+            long raw = readVarLong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        Long readNullableLong() {
+            long raw = readVarLong();
+            if (raw == 0) {
+                return null;
+            }
+            raw -= 1;
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        String readString() {
+            int length = (int) readVarLong();
+            if (length == 0) {
+                return null;
+            }
+            length -= 1;
+            if (position + length > buffer.length) {
+                throw new IllegalArgumentException("페이로드가 잘렸습니다.");
+            }
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        LocalDateTime readDateTime() {
+            long epochSecond = readLong();
+            int nano = (int) readVarLong();
+            return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("잘못된 가변 길이 정수입니다.");
+        }
+    }
+}
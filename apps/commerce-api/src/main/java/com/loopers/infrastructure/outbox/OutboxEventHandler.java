@@ -5,52 +5,95 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.domain.like.event.ProductLikedEvent;
 import com.loopers.domain.order.event.OrderCompletedEvent;
 import com.loopers.domain.product.event.StockDepletedEvent;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * 도메인 이벤트를 Outbox 에 기록
+ * <p>
+ * 페이로드는 outbox.payload.format(json | binary)으로 인코딩하고, Kafka 파티션 키는 이벤트에서 바로 만들어
+ * partition_key 컬럼에 저장합니다. relay 는 페이로드를 다시 읽지 않습니다.
+ */
 @Component
-@RequiredArgsConstructor
 public class OutboxEventHandler {
 
     private final OutboxRepository outboxRepository;
+    private final OutboxRelaySignal outboxRelaySignal;
     private final ObjectMapper objectMapper;
+    private final OutboxEventCodec outboxEventCodec;
+    private final OutboxPayloadFormat payloadFormat;
+
+    public OutboxEventHandler(
+            OutboxRepository outboxRepository,
+            OutboxRelaySignal outboxRelaySignal,
+            ObjectMapper objectMapper,
+            OutboxEventCodec outboxEventCodec,
+            @Value("${outbox.payload.format:json}") String payloadFormat) {
+        this.outboxRepository = outboxRepository;
+        this.outboxRelaySignal = outboxRelaySignal;
+        this.objectMapper = objectMapper;
+        this.outboxEventCodec = outboxEventCodec;
+        this.payloadFormat = OutboxPayloadFormat.valueOf(payloadFormat.toUpperCase());
+    }
 
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handleProductLikedEvent(ProductLikedEvent event) {
-        Outbox outbox = Outbox.create(
+        save(
                 "PRODUCT",
                 event.getProductId().toString(),
+                event.getProductId() + ":" + event.getUserId(),
                 "ProductLikedEvent",
                 "product-liked",
-                toJson(event)
+                event
         );
-        outboxRepository.save(outbox);
     }
 
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handleOrderCompletedEvent(OrderCompletedEvent event) {
-        Outbox outbox = Outbox.create(
+        save(
                 "ORDER",
                 event.getOrderId().toString(),
+                event.getOrderId() + ":" + event.getUserId(),
                 "OrderCompletedEvent",
                 "order-events",
-                toJson(event)
+                event
         );
-        outboxRepository.save(outbox);
     }
 
     @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handleStockDepletedEvent(StockDepletedEvent event) {
-        Outbox outbox = Outbox.create(
+        save(
                 "PRODUCT",
                 event.getProductId().toString(),
+                event.getProductId().toString(),
                 "StockDepletedEvent",
                 "stock-depleted",
-                toJson(event)
+                event
         );
+    }
+
+    /**
+     * Outbox 저장 후, 커밋되면 relay 를 바로 깨움
+     */
+    private void save(String aggregateType, String aggregateId, String partitionKey,
+                      String eventType, String topic, Object event) {
+        Outbox outbox = payloadFormat == OutboxPayloadFormat.BINARY
+                ? Outbox.createBinary(aggregateType, aggregateId, partitionKey, eventType, topic, outboxEventCodec.encode(event))
+                : Outbox.createJson(aggregateType, aggregateId, partitionKey, eventType, topic, toJson(event));
         outboxRepository.save(outbox);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    outboxRelaySignal.signal();
+                }
+            });
+        }
     }
 
     private String toJson(Object event) {
@@ -0,0 +1,37 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 바이너리 Outbox 페이로드 송수신 설정
+ * <p>
+ * 기본 KafkaTemplate 은 값을 JSON 으로 직렬화하므로, 인코딩된 바이트는 ByteArraySerializer 템플릿으로 그대로 보냅니다.
+ * 수신 쪽은 payload-format 헤더를 보고 바이너리/JSON 을 골라 변환합니다 (@KafkaListener 기본 컨버터로 사용).
+ */
+@Configuration
+public class OutboxKafkaConfig {
+
+    @Bean
+    public KafkaTemplate<String, byte[]> outboxBinaryKafkaTemplate(KafkaProperties kafkaProperties) {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+    }
+
+    @Bean
+    @Primary
+    public OutboxPayloadMessageConverter outboxPayloadMessageConverter(ObjectMapper objectMapper, OutboxEventCodec outboxEventCodec) {
+        return new OutboxPayloadMessageConverter(objectMapper, outboxEventCodec);
+    }
+}
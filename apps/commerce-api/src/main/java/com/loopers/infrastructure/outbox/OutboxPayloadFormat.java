@@ -0,0 +1,9 @@
+package com.loopers.infrastructure.outbox;
+
+/**
+ * Outbox 페이로드 인코딩 (Kafka payload-format 헤더 값과 같음)
+ */
+public enum OutboxPayloadFormat {
+    JSON,
+    BINARY
+}
@@ -0,0 +1,37 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.support.converter.ByteArrayJsonMessageConverter;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * payload-format 헤더가 BINARY 인 메시지는 OutboxEventCodec 으로, 나머지는 기존처럼 JSON 으로 변환
+ */
+public class OutboxPayloadMessageConverter extends ByteArrayJsonMessageConverter {
+
+    private final OutboxEventCodec outboxEventCodec;
+
+    public OutboxPayloadMessageConverter(ObjectMapper objectMapper, OutboxEventCodec outboxEventCodec) {
+        super(objectMapper);
+        this.outboxEventCodec = outboxEventCodec;
+    }
+
+    @Override
+    protected Object extractAndConvertValue(ConsumerRecord<?, ?> record, Type type) {
+        if (isBinary(record) && record.value() instanceof byte[] bytes
+                && type instanceof Class<?> target && outboxEventCodec.supports(target)) {
+            return outboxEventCodec.decode(bytes, target);
+        }
+        return super.extractAndConvertValue(record, type);
+    }
+
+    private static boolean isBinary(ConsumerRecord<?, ?> record) {
+        Header header = record.headers().lastHeader(OutboxRelay.HEADER_PAYLOAD_FORMAT);
+        return header != null
+                && OutboxPayloadFormat.BINARY.name().equals(new String(header.value(), StandardCharsets.UTF_8));
+    }
+}
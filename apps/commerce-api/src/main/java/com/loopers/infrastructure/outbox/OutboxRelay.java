@@ -1,69 +1,279 @@
 package com.loopers.infrastructure.outbox;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.loopers.support.concurrent.ThreadFactories;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.ProducerRecord;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.lang.management.ManagementFactory;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
+/**
+ * Outbox 발행기
+ * <p>
+ * 노드마다 outbox.relay.workers 개의 워커가 각자 점유한 행만 발행하므로, 여러 노드/스레드가 PENDING 적재분을
+ * 겹치지 않게 나눠 처리합니다 (OutboxClaimService). 발행/실패 수는 outbox.relay.published, outbox.relay.failed
+ * (instance 태그)로 노출됩니다.
+ * <p>
+ * 폴링 스레드는 Outbox 를 쓴 트랜잭션이 커밋되면 바로 깨어나고(OutboxRelaySignal), 신호가 없으면 적재량에 맞춰 주기를 조절합니다.
+ * - 한 번에 배치를 가득 발행했으면 쉬지 않고 이어서 발행
+ * - 일부만 발행했으면 min-interval-ms 뒤 다시 확인
+ * - 발행할 것이 없으면 대기 시간을 두 배씩 늘려 max-interval-ms 까지 물러남
+ * <p>
+ * 파티션 키는 저장할 때 정해진 partition_key 컬럼을 그대로 쓰고, BINARY 행은 바이트 그대로 보내며 payload-format 헤더로 형식을 알립니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class OutboxRelay {
+public class OutboxRelay implements DisposableBean {
 
     public static final String HEADER_OUTBOX_ID = "outbox-id";
     public static final String HEADER_EVENT_TYPE = "event-type";
-    private static final int BATCH_SIZE = 100;
+    public static final String HEADER_PAYLOAD_FORMAT = "payload-format";
+    private static final String PUBLISHED = "outbox.relay.published";
+    private static final String FAILED = "outbox.relay.failed";
+    private static final long SEND_TIMEOUT_SECONDS = 30;
 
+    private final OutboxClaimService outboxClaimService;
+    private final OutboxRelaySignal outboxRelaySignal;
     private final OutboxRepository outboxRepository;
     private final KafkaTemplate<Object, Object> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    private final KafkaTemplate<String, byte[]> binaryKafkaTemplate;
+    private final int batchSize;
+    private final long leaseSeconds;
+    private final List<String> owners;
+    private final ExecutorService workers;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final boolean enabled;
+    private final long minIntervalMs;
+    private final long maxIntervalMs;
+    private final ExecutorService poller;
+    private volatile boolean running = true;
 
-    @Scheduled(fixedDelay = 1000)
-    public void relay() {
-        List<Outbox> pendingList = outboxRepository.findByStatusOrderByCreatedAtAsc(
-                OutboxStatus.PENDING,
-                PageRequest.of(0, BATCH_SIZE)
-        );
+    public OutboxRelay(
+            OutboxClaimService outboxClaimService,
+            OutboxRelaySignal outboxRelaySignal,
+            OutboxRepository outboxRepository,
+            KafkaTemplate<Object, Object> kafkaTemplate,
+            KafkaTemplate<String, byte[]> outboxBinaryKafkaTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.instance-id:}") String instanceId,
+            @Value("${outbox.relay.workers:1}") int workerCount,
+            @Value("${outbox.relay.batch-size:100}") int batchSize,
+            @Value("${outbox.relay.lease-seconds:30}") long leaseSeconds,
+            @Value("${outbox.relay.enabled:true}") boolean enabled,
+            @Value("${outbox.relay.poll.min-interval-ms:10}") long minIntervalMs,
+            @Value("${outbox.relay.poll.max-interval-ms:5000}") long maxIntervalMs,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.outboxClaimService = outboxClaimService;
+        this.outboxRelaySignal = outboxRelaySignal;
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.binaryKafkaTemplate = outboxBinaryKafkaTemplate;
+        this.batchSize = batchSize;
+        this.leaseSeconds = leaseSeconds;
 
-        for (Outbox outbox : pendingList) {
+        String instance = instanceId.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : instanceId;
+        this.owners = IntStream.rangeClosed(1, workerCount)
+                .mapToObj(worker -> instance + "#" + worker)
+                .toList();
+        this.workers = workerCount > 1
+                ? Executors.newFixedThreadPool(workerCount, ThreadFactories.named("outbox-relay", virtualThreads))
+                : null;
+        this.publishedCounter = meterRegistry.counter(PUBLISHED, "instance", instance);
+        this.failedCounter = meterRegistry.counter(FAILED, "instance", instance);
+        this.enabled = enabled;
+        this.minIntervalMs = minIntervalMs;
+        this.maxIntervalMs = maxIntervalMs;
+        this.poller = Executors.newSingleThreadExecutor(ThreadFactories.named("outbox-relay-poller", virtualThreads));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPolling() {
+        if (enabled) {
+            poller.execute(this::poll);
+        }
+    }
+
+    private void poll() {
+        long intervalMs = minIntervalMs;
+
+        while (running) {
             try {
-                String partitionKey = buildPartitionKey(outbox);
-                ProducerRecord<Object, Object> record = new ProducerRecord<>(
-                        outbox.getTopic(),
-                        partitionKey,
-                        outbox.getPayload()
-                );
-                record.headers().add(HEADER_OUTBOX_ID, outbox.getId().toString().getBytes(StandardCharsets.UTF_8));
-                record.headers().add(HEADER_EVENT_TYPE, outbox.getEventType().getBytes(StandardCharsets.UTF_8));
+                int published = relay();
+                if (published >= batchSize) {
+                    continue;
+                }
 
-                kafkaTemplate.send(record).get();
-                outbox.markProcessed();
-                outboxRepository.save(outbox);
-                log.info("Outbox 발행 성공: id={}, topic={}, key={}", outbox.getId(), outbox.getTopic(), partitionKey);
+                intervalMs = published > 0 ? minIntervalMs : Math.min(maxIntervalMs, intervalMs * 2);
+                if (outboxRelaySignal.await(intervalMs)) {
+                    intervalMs = minIntervalMs;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
             } catch (Exception e) {
-                log.error("Outbox 발행 실패: id={}, topic={}", outbox.getId(), outbox.getTopic(), e);
+                log.error("Outbox relay 폴링 실패", e);
+                intervalMs = maxIntervalMs;
+                sleepQuietly(intervalMs);
+            }
+        }
+    }
+
+    /**
+     * 워커마다 점유한 Outbox 를 한 번 발행
+     *
+     * @return 발행 완료한 Outbox 수
+     */
+    public int relay() {
+        if (workers == null) {
+            return relayClaimed(owners.get(0));
+        }
+
+        List<Future<Integer>> runs = owners.stream()
+                .map(owner -> workers.submit(() -> relayClaimed(owner)))
+                .toList();
+        int published = 0;
+        for (Future<Integer> run : runs) {
+            try {
+                published += run.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return published;
+            } catch (ExecutionException e) {
+                log.error("Outbox relay 워커 실패", e.getCause());
             }
         }
+        return published;
     }
 
-    private String buildPartitionKey(Outbox outbox) {
+    /**
+     * 점유한 Outbox 일괄 발행
+     * <p>
+     * 배치 전체를 먼저 비동기로 보내고 응답을 한꺼번에 기다린 뒤, 성공한 행을 UPDATE 한 번으로 PROCESSED 처리합니다.
+     * 같은 파티션 키의 이벤트는 보낸 순서대로 브로커에 쌓이므로(enable.idempotence), 키별로 첫 실패 이후 이벤트는
+     * 성공했더라도 PENDING 으로 남겨 다음 주기에 실패한 이벤트부터 다시 보냅니다. 중복 수신은 outbox-id 헤더로 걸러집니다.
+     */
+    private int relayClaimed(String owner) {
+        List<Outbox> claimed = outboxClaimService.claim(owner, batchSize, leaseSeconds);
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<Delivery>> deliveriesByKey = new LinkedHashMap<>();
+        for (Outbox outbox : claimed) {
+            String partitionKey = outbox.getPartitionKey();
+            deliveriesByKey.computeIfAbsent(partitionKey, key -> new ArrayList<>())
+                    .add(new Delivery(outbox, partitionKey, send(outbox, partitionKey)));
+        }
+
+        List<Long> processedIds = new ArrayList<>();
+        List<Long> retryIds = new ArrayList<>();
+        for (List<Delivery> deliveries : deliveriesByKey.values()) {
+            boolean failed = false;
+            for (Delivery delivery : deliveries) {
+                if (!failed && await(delivery)) {
+                    processedIds.add(delivery.outbox().getId());
+                } else {
+                    failed = true;
+                    retryIds.add(delivery.outbox().getId());
+                }
+            }
+        }
+
+        if (!processedIds.isEmpty()) {
+            outboxRepository.markProcessed(processedIds, owner, LocalDateTime.now());
+            publishedCounter.increment(processedIds.size());
+        }
+        if (!retryIds.isEmpty()) {
+            outboxRepository.releaseLease(retryIds, owner);
+            failedCounter.increment(retryIds.size());
+        }
+        log.debug("Outbox 발행: owner={}, 대상={}, 성공={}", owner, claimed.size(), processedIds.size());
+        return processedIds.size();
+    }
+
+    private CompletableFuture<?> send(Outbox outbox, String partitionKey) {
         try {
-            JsonNode node = objectMapper.readTree(outbox.getPayload());
-            JsonNode userIdNode = node.get("userId");
-            if (userIdNode != null) {
-                return outbox.getAggregateId() + ":" + userIdNode.asText();
+            if (outbox.getPayloadFormat() == OutboxPayloadFormat.BINARY) {
+                ProducerRecord<String, byte[]> record = new ProducerRecord<>(
+                        outbox.getTopic(),
+                        partitionKey,
+                        outbox.getBinaryPayload()
+                );
+                addHeaders(record, outbox);
+                return binaryKafkaTemplate.send(record);
             }
+
+            ProducerRecord<Object, Object> record = new ProducerRecord<>(
+                    outbox.getTopic(),
+                    partitionKey,
+                    outbox.getPayload()
+            );
+            addHeaders(record, outbox);
+            return kafkaTemplate.send(record);
         } catch (Exception e) {
-            log.warn("파티션 키 생성 실패, 기본 키 사용: {}", outbox.getAggregateId(), e);
+            return CompletableFuture.failedFuture(e);
         }
-        return outbox.getAggregateId();
+    }
+
+    private void addHeaders(ProducerRecord<?, ?> record, Outbox outbox) {
+        record.headers().add(HEADER_OUTBOX_ID, outbox.getId().toString().getBytes(StandardCharsets.UTF_8));
+        record.headers().add(HEADER_EVENT_TYPE, outbox.getEventType().getBytes(StandardCharsets.UTF_8));
+        record.headers().add(HEADER_PAYLOAD_FORMAT, outbox.getPayloadFormat().name().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean await(Delivery delivery) {
+        Outbox outbox = delivery.outbox();
+        try {
+            delivery.future().get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.error("Outbox 발행 실패: id={}, topic={}, key={}", outbox.getId(), outbox.getTopic(), delivery.partitionKey(), e);
+            return false;
+        }
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        poller.shutdownNow();
+        if (workers != null) {
+            workers.shutdown();
+        }
+    }
+
+    private record Delivery(Outbox outbox, String partitionKey, CompletableFuture<?> future) {
     }
 }
@@ -0,0 +1,35 @@
+package com.loopers.infrastructure.outbox;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox relay 깨우기 신호
+ * <p>
+ * Outbox 를 쓴 트랜잭션이 커밋되면 신호를 보내, 대기 중인 relay 가 다음 폴링 주기를 기다리지 않고 바로 발행하게 합니다.
+ * 대기 중에 여러 번 보낸 신호는 한 번으로 합쳐집니다.
+ */
+@Component
+public class OutboxRelaySignal {
+
+    private final Semaphore signal = new Semaphore(0);
+
+    public void signal() {
+        if (signal.availablePermits() == 0) {
+            signal.release();
+        }
+    }
+
+    /**
+     * 신호가 오거나 시간이 지날 때까지 대기
+     *
+     * @return 신호로 깨어났으면 true
+     */
+    public boolean await(long timeoutMs) throws InterruptedException {
+        boolean signaled = signal.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        signal.drainPermits();
+        return signaled;
+    }
+}
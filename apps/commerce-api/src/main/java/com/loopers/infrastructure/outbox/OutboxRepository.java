@@ -2,10 +2,103 @@ package com.loopers.infrastructure.outbox;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface OutboxRepository extends JpaRepository<Outbox, Long> {
 
     List<Outbox> findByStatusOrderByCreatedAtAsc(OutboxStatus status, Pageable pageable);
+
+    List<Outbox> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    /**
+     * 점유 가능한 aggregate 의 첫 PENDING Outbox id 를 잠그며 조회
+     * <p>
+     * aggregate 마다 가장 오래된 PENDING 행만 후보가 됩니다. 다른 워커가 그 행을 점유했거나(아직 커밋 전이면 잠금으로,
+     * 커밋 후면 lease_until 로) 처리 중이면 SKIP LOCKED 로 건너뛰고, 뒤의 행은 첫 행이 아니므로 후보가 되지 않습니다.
+     * 그래서 한 aggregate 는 첫 행을 잠근 워커 하나만 가져갈 수 있습니다.
+     * (첫 행 판정 서브쿼리는 잠그지 않는 일관된 읽기라, 다른 워커가 막 점유한 첫 행도 PENDING 으로 보입니다.)
+     */
+    @Query(value = """
+            SELECT o.id
+            FROM outbox o
+            WHERE o.status = 'PENDING'
+              AND (o.lease_until IS NULL OR o.lease_until < :now)
+              AND o.id = (
+                  SELECT MIN(e.id)
+                  FROM outbox e
+                  WHERE e.aggregate_type = o.aggregate_type
+                    AND e.aggregate_id = o.aggregate_id
+                    AND e.status = 'PENDING'
+              )
+            ORDER BY o.id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> findClaimableHeadIds(LocalDateTime now, int limit);
+
+    /**
+     * 이미 잠근 첫 행(headIds)과 같은 aggregate 의 뒤따르는 PENDING Outbox id 를 잠그며 조회
+     * <p>
+     * 첫 행을 잠근 워커만 이 행들을 가져갈 수 있으므로 SKIP LOCKED 없이 id 순서대로 잠급니다.
+     * id 순으로 limit 을 자르므로 aggregate 마다 앞에서부터 이어진 행만 가져갑니다.
+     */
+    @Query(value = """
+            SELECT o.id
+            FROM outbox o
+            JOIN outbox h
+              ON h.aggregate_type = o.aggregate_type
+             AND h.aggregate_id = o.aggregate_id
+            WHERE h.id IN (:headIds)
+              AND o.id > h.id
+              AND o.status = 'PENDING'
+              AND (o.lease_until IS NULL OR o.lease_until < :now)
+            ORDER BY o.id
+            LIMIT :limit
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<Long> findClaimableFollowerIds(Collection<Long> headIds, LocalDateTime now, int limit);
+
+    @Modifying
+    @Query("UPDATE Outbox o SET o.leaseOwner = :owner, o.leaseUntil = :leaseUntil WHERE o.id IN :ids")
+    int lease(Collection<Long> ids, String owner, LocalDateTime leaseUntil);
+
+    /**
+     * 점유를 풀어 다음 주기에 바로 다시 가져갈 수 있게 함
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Outbox o SET o.leaseOwner = NULL, o.leaseUntil = NULL " +
+            "WHERE o.id IN :ids AND o.leaseOwner = :owner")
+    int releaseLease(Collection<Long> ids, String owner);
+
+    /**
+     * 발행한 Outbox 를 한 번에 PROCESSED 처리 (점유가 다른 워커로 넘어간 행은 제외)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Outbox o SET o.status = com.loopers.infrastructure.outbox.OutboxStatus.PROCESSED, " +
+            "o.processedAt = :processedAt, o.leaseOwner = NULL, o.leaseUntil = NULL " +
+            "WHERE o.id IN :ids AND o.status = com.loopers.infrastructure.outbox.OutboxStatus.PENDING " +
+            "AND o.leaseOwner = :owner")
+    int markProcessed(Collection<Long> ids, String owner, LocalDateTime processedAt);
+
+    /**
+     * 보관 기간이 지난 PROCESSED Outbox 를 오래된 순으로 limit 건만 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM outbox
+            WHERE status = 'PROCESSED'
+              AND processed_at < :processedBefore
+            ORDER BY processed_at
+            LIMIT :limit
+            """, nativeQuery = true)
+    int deleteProcessedBefore(LocalDateTime processedBefore, int limit);
 }
@@ -0,0 +1,197 @@
+package com.loopers.infrastructure.pg;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.infrastructure.pg.dto.PgPaymentRequest;
+import com.loopers.infrastructure.pg.dto.PgPaymentResponse;
+import com.loopers.infrastructure.pg.dto.PgTransactionDetail;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PG 비동기 HTTP 클라이언트
+ * <p>
+ * Apache HttpClient 5 비동기 클라이언트 위에서 커넥션 풀과 keep-alive 로 PG 연결을 재사용하고,
+ * 결과를 CompletableFuture 로 돌려줍니다. 응답을 기다리는 동안 호출 스레드를 잡지 않습니다.
+ * <p>
+ * - pg.client.requests: 엔드포인트/결과별 지연 시간 히스토그램
+ * - pg.client.pool.*: 커넥션 풀 사용 중(leased)/대기(pending)/유휴(available)/최대(max) 수
+ */
+@Component
+public class PgAsyncClient implements DisposableBean {
+
+    public static final String ENDPOINT_REQUEST_PAYMENT = "request-payment";
+    public static final String ENDPOINT_GET_TRANSACTION = "get-transaction";
+
+    static final String REQUESTS = "pg.client.requests";
+    private static final String POOL = "pg.client.pool.";
+    private static final String USER_ID_HEADER = "X-USER-ID";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String baseUrl;
+    private final PoolingAsyncClientConnectionManager connectionManager;
+    private final CloseableHttpAsyncClient httpClient;
+
+    public PgAsyncClient(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${pg.base-url}") String baseUrl,
+            @Value("${pg.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${pg.read-timeout-ms:3000}") long readTimeoutMs,
+            @Value("${pg.client.max-connections:50}") int maxConnections,
+            @Value("${pg.client.connection-request-timeout-ms:1000}") long connectionRequestTimeoutMs) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.baseUrl = baseUrl;
+
+        this.connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        this.httpClient = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+        this.httpClient.start();
+
+        Gauge.builder(POOL + "leased", connectionManager, manager -> manager.getTotalStats().getLeased()).register(meterRegistry);
+        Gauge.builder(POOL + "pending", connectionManager, manager -> manager.getTotalStats().getPending()).register(meterRegistry);
+        Gauge.builder(POOL + "available", connectionManager, manager -> manager.getTotalStats().getAvailable()).register(meterRegistry);
+        Gauge.builder(POOL + "max", connectionManager, manager -> manager.getTotalStats().getMax()).register(meterRegistry);
+    }
+
+    public CompletableFuture<PgPaymentResponse> requestPayment(String userId, PgPaymentRequest request) {
+        SimpleHttpRequest httpRequest;
+        try {
+            httpRequest = SimpleRequestBuilder.post(baseUrl + "/api/v1/payments")
+                    .addHeader(USER_ID_HEADER, userId)
+                    .setBody(objectMapper.writeValueAsBytes(request), ContentType.APPLICATION_JSON)
+                    .build();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return execute(ENDPOINT_REQUEST_PAYMENT, httpRequest, PgPaymentResponse.class);
+    }
+
+    public CompletableFuture<PgTransactionDetail> getTransaction(String userId, String transactionKey) {
+        SimpleHttpRequest httpRequest = SimpleRequestBuilder.get(baseUrl + "/api/v1/payments/" + transactionKey)
+                .addHeader(USER_ID_HEADER, userId)
+                .build();
+
+        return execute(ENDPOINT_GET_TRANSACTION, httpRequest, PgTransactionDetail.class);
+    }
+
+    /**
+     * 비동기 호출 결과를 기다린 뒤, CompletionException 에 감싸진 원래 예외를 그대로 던짐
+     * <p>
+     * Retry/CircuitBreaker 의 예외 분류가 원래 예외 타입으로 동작하도록 합니다.
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof IOException ioException) {
+                throw new UncheckedIOException(ioException);
+            }
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<T> execute(String endpoint, SimpleHttpRequest request, Class<T> responseType) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long start = System.nanoTime();
+
+        httpClient.execute(request, new FutureCallback<>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                int code = response.getCode();
+                if (code >= 500) {
+                    record(endpoint, "server_error", start);
+                    result.completeExceptionally(new PgServerException(endpoint, code, response.getBodyText()));
+                    return;
+                }
+                if (code >= 300) {
+                    record(endpoint, "client_error", start);
+                    result.completeExceptionally(new PgHttpException(endpoint, code, response.getBodyText()));
+                    return;
+                }
+
+                try {
+                    T body = objectMapper.readValue(response.getBodyBytes(), responseType);
+                    record(endpoint, "success", start);
+                    result.complete(body);
+                } catch (IOException e) {
+                    record(endpoint, "error", start);
+                    result.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void failed(Exception e) {
+                record(endpoint, "error", start);
+                result.completeExceptionally(e);
+            }
+
+            @Override
+            public void cancelled() {
+                record(endpoint, "cancelled", start);
+                result.cancel(false);
+            }
+        });
+
+        return result;
+    }
+
+    private void record(String endpoint, String outcome, long start) {
+        Timer.builder(REQUESTS)
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        httpClient.close(CloseMode.GRACEFUL);
+    }
+}
@@ -1,31 +0,0 @@
-package com.loopers.infrastructure.pg;
-
-import com.loopers.infrastructure.pg.dto.PgPaymentRequest;
-import com.loopers.infrastructure.pg.dto.PgPaymentResponse;
-import com.loopers.infrastructure.pg.dto.PgTransactionDetail;
-import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
-
-@FeignClient(
-    name = "pgClient",
-    url = "${pg.base-url}",
-    configuration = PgFeignConfig.class
-)
-public interface PgClient {
-
-    @PostMapping("/api/v1/payments")
-    PgPaymentResponse requestPayment(
-        @RequestHeader("X-USER-ID") String userId,
-        @RequestBody PgPaymentRequest request
-    );
-
-    @GetMapping("/api/v1/payments/{transactionKey}")
-    PgTransactionDetail getTransaction(
-        @RequestHeader("X-USER-ID") String userId,
-        @PathVariable("transactionKey") String transactionKey
-    );
-}
\ No newline at end of file
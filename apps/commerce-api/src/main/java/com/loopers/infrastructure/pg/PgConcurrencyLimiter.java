@@ -0,0 +1,113 @@
+package com.loopers.infrastructure.pg;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PG 벌크헤드 동시 호출 한도 조절기
+ * <p>
+ * pgBulkhead 는 PG 호출(결제 요청, 거래 조회)의 동시 실행 수를 제한해, PG 가 느려져도 나머지 기능이 쓰는
+ * 스레드와 커넥션이 묶이지 않게 합니다. 한도는 고정값이 아니라 주기마다 pg.client.requests 의 평균 지연을 보고
+ * 조절합니다 (AIMD).
+ * <p>
+ * - 평균 지연이 목표를 넘으면 한도를 비율로 줄임
+ * - 지연이 목표 이내인데 거절이 있었으면 한도를 1씩 늘림
+ * <p>
+ * 현재 한도는 pg.bulkhead.limit, 거절 수는 pg.bulkhead.rejected 로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class PgConcurrencyLimiter {
+
+    public static final String BULKHEAD = "pgBulkhead";
+
+    private static final String LIMIT = "pg.bulkhead.limit";
+    private static final String REJECTED = "pg.bulkhead.rejected";
+    private static final double DECREASE_RATIO = 0.8;
+
+    private final Bulkhead bulkhead;
+    private final MeterRegistry meterRegistry;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final AtomicInteger limit;
+    private final AtomicLong rejectedInWindow = new AtomicLong();
+
+    private long lastCount;
+    private double lastTotalNanos;
+
+    public PgConcurrencyLimiter(
+            BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${pg.bulkhead.min-limit:5}") int minLimit,
+            @Value("${pg.bulkhead.max-limit:50}") int maxLimit,
+            @Value("${pg.bulkhead.target-latency-ms:1000}") long targetLatencyMs) {
+        this.bulkhead = bulkheadRegistry.bulkhead(BULKHEAD);
+        this.meterRegistry = meterRegistry;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMs);
+        this.limit = new AtomicInteger(bulkhead.getBulkheadConfig().getMaxConcurrentCalls());
+
+        Counter rejectedCounter = Counter.builder(REJECTED).tag("name", BULKHEAD).register(meterRegistry);
+        bulkhead.getEventPublisher().onCallRejected(event -> {
+            rejectedCounter.increment();
+            rejectedInWindow.incrementAndGet();
+        });
+        Gauge.builder(LIMIT, limit, AtomicInteger::get).tag("name", BULKHEAD).register(meterRegistry);
+
+        changeLimit(Math.clamp(limit.get(), minLimit, maxLimit));
+    }
+
+    @Scheduled(fixedDelayString = "${pg.bulkhead.adjust-interval-ms:1000}")
+    public synchronized void adjust() {
+        long count = 0;
+        double totalNanos = 0;
+        for (Timer timer : meterRegistry.find(PgAsyncClient.REQUESTS).timers()) {
+            count += timer.count();
+            totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+        }
+
+        long calls = count - lastCount;
+        double elapsedNanos = totalNanos - lastTotalNanos;
+        lastCount = count;
+        lastTotalNanos = totalNanos;
+        long rejected = rejectedInWindow.getAndSet(0);
+
+        int current = limit.get();
+        if (calls > 0 && elapsedNanos / calls > targetLatencyNanos) {
+            changeLimit(Math.max(minLimit, (int) (current * DECREASE_RATIO)));
+        } else if (rejected > 0) {
+            changeLimit(Math.min(maxLimit, current + 1));
+        }
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    private void changeLimit(int next) {
+        int previous = limit.getAndSet(next);
+        if (previous == next && bulkhead.getBulkheadConfig().getMaxConcurrentCalls() == next) {
+            return;
+        }
+
+        bulkhead.changeConfig(BulkheadConfig.from(bulkhead.getBulkheadConfig())
+                .maxConcurrentCalls(next)
+                .build());
+        log.info("PG bulkhead limit changed. {} -> {}", previous, next);
+    }
+}
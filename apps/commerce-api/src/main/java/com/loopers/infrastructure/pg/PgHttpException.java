@@ -0,0 +1,19 @@
+package com.loopers.infrastructure.pg;
+
+import lombok.Getter;
+
+/**
+ * PG 가 2xx 가 아닌 응답을 돌려준 경우
+ */
+@Getter
+public class PgHttpException extends RuntimeException {
+
+    private final String endpoint;
+    private final int statusCode;
+
+    public PgHttpException(String endpoint, int statusCode, String body) {
+        super(String.format("PG %s responded %d: %s", endpoint, statusCode, body));
+        this.endpoint = endpoint;
+        this.statusCode = statusCode;
+    }
+}
@@ -0,0 +1,177 @@
+package com.loopers.infrastructure.pg;
+
+import com.loopers.support.concurrent.ThreadFactories;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * PG 조회 요청 헤징
+ * <p>
+ * 멱등한 조회 요청이 최근 지연의 p{percentile} 안에 응답하지 않으면 같은 요청을 한 번 더 보내고 먼저 온 응답을 씁니다.
+ * 느린 PG 인스턴스 하나 때문에 조회가 read-timeout 까지 묶이는 일을 줄입니다.
+ * <p>
+ * 헤지 요청은 요청마다 max-ratio 만큼 쌓이는 예산에서 1씩 꺼내 쓰므로, 전체 요청 대비 헤지 비율이 max-ratio 를 넘지 않습니다.
+ * PG 가 전반적으로 느려져도 요청이 두 배로 늘지 않습니다.
+ * <p>
+ * 헤지 발행/성공/예산 부족 수는 pg.hedge.issued, pg.hedge.won, pg.hedge.throttled 로 노출됩니다.
+ */
+@Component
+public class PgRequestHedger implements DisposableBean {
+
+    private static final String ISSUED = "pg.hedge.issued";
+    private static final String WON = "pg.hedge.won";
+    private static final String THROTTLED = "pg.hedge.throttled";
+    private static final int MIN_SAMPLES = 20;
+    private static final long BUDGET_UNIT = 1_000;
+    private static final long MAX_BUDGET = 10 * BUDGET_UNIT;
+
+    private final boolean enabled;
+    private final int percentile;
+    private final long budgetPerRequest;
+    private final long minDelayNanos;
+    private final long defaultDelayNanos;
+
+    private final AtomicLongArray latencies;
+    private final AtomicLong latencyCursor = new AtomicLong();
+    private final AtomicLong budget = new AtomicLong();
+
+    private final Counter issuedCounter;
+    private final Counter wonCounter;
+    private final Counter throttledCounter;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    public PgRequestHedger(
+            MeterRegistry meterRegistry,
+            @Value("${pg.hedge.enabled:true}") boolean enabled,
+            @Value("${pg.hedge.percentile:95}") int percentile,
+            @Value("${pg.hedge.max-ratio:0.1}") double maxRatio,
+            @Value("${pg.hedge.min-delay-ms:50}") long minDelayMs,
+            @Value("${pg.hedge.default-delay-ms:300}") long defaultDelayMs,
+            @Value("${pg.hedge.window-size:100}") int windowSize,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.budgetPerRequest = (long) (maxRatio * BUDGET_UNIT);
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelayMs);
+        this.defaultDelayNanos = TimeUnit.MILLISECONDS.toNanos(defaultDelayMs);
+        this.latencies = new AtomicLongArray(windowSize);
+
+        this.issuedCounter = meterRegistry.counter(ISSUED);
+        this.wonCounter = meterRegistry.counter(WON);
+        this.throttledCounter = meterRegistry.counter(THROTTLED);
+
+        this.scheduler = new ScheduledThreadPoolExecutor(1, ThreadFactories.named("pg-hedge", virtualThreads));
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * 요청 실행 (필요하면 헤지 요청 추가)
+     * <p>
+     * 먼저 성공한 응답으로 완료됩니다. 실패는 진행 중인 다른 요청이 없을 때만 그대로 전달합니다.
+     *
+     * @param request 같은 요청을 새로 보내는 함수 (멱등한 요청만)
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> request) {
+        if (!enabled) {
+            return request.get();
+        }
+
+        depositBudget();
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger inFlight = new AtomicInteger(1);
+        send(request, result, inFlight, false);
+
+        ScheduledFuture<?> hedge = scheduler.schedule(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            if (!tryAcquireBudget()) {
+                throttledCounter.increment();
+                return;
+            }
+
+            inFlight.incrementAndGet();
+            issuedCounter.increment();
+            send(request, result, inFlight, true);
+        }, hedgeDelayNanos(), TimeUnit.NANOSECONDS);
+        result.whenComplete((value, e) -> hedge.cancel(false));
+
+        return result;
+    }
+
+    private <T> void send(Supplier<CompletableFuture<T>> request, CompletableFuture<T> result,
+                          AtomicInteger inFlight, boolean hedged) {
+        long start = System.nanoTime();
+
+        request.get().whenComplete((value, e) -> {
+            if (e == null) {
+                recordLatency(System.nanoTime() - start);
+                if (result.complete(value) && hedged) {
+                    wonCounter.increment();
+                }
+                return;
+            }
+
+            if (inFlight.decrementAndGet() == 0) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * 최근 응답 지연의 percentile 값 (표본이 적으면 기본값)
+     */
+    long hedgeDelayNanos() {
+        int samples = (int) Math.min(latencyCursor.get(), latencies.length());
+        if (samples < MIN_SAMPLES) {
+            return defaultDelayNanos;
+        }
+
+        long[] sorted = new long[samples];
+        for (int i = 0; i < samples; i++) {
+            sorted[i] = latencies.get(i);
+        }
+        Arrays.sort(sorted);
+        int index = Math.min(samples - 1, (int) Math.ceil(percentile / 100.0 * samples) - 1);
+        return Math.max(minDelayNanos, sorted[Math.max(index, 0)]);
+    }
+
+    private void recordLatency(long nanos) {
+        latencies.set((int) (latencyCursor.getAndIncrement() % latencies.length()), nanos);
+    }
+
+    private void depositBudget() {
+        budget.accumulateAndGet(budgetPerRequest, (current, deposit) -> Math.min(MAX_BUDGET, current + deposit));
+    }
+
+    private boolean tryAcquireBudget() {
+        while (true) {
+            long current = budget.get();
+            if (current < BUDGET_UNIT) {
+                return false;
+            }
+            if (budget.compareAndSet(current, current - BUDGET_UNIT)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
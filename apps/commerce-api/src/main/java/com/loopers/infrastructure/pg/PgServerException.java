@@ -0,0 +1,11 @@
+package com.loopers.infrastructure.pg;
+
+/**
+ * PG 5xx 응답 (재시도 대상)
+ */
+public class PgServerException extends PgHttpException {
+
+    public PgServerException(String endpoint, int statusCode, String body) {
+        super(endpoint, statusCode, body);
+    }
+}
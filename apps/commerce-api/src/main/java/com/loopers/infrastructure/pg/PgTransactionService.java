@@ -1,18 +1,37 @@
 package com.loopers.infrastructure.pg;
 
 import com.loopers.infrastructure.pg.dto.PgTransactionDetail;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class PgTransactionService {
 
-    private final PgClient pgClient;
+    private final PgAsyncClient pgAsyncClient;
+    private final PgRequestHedger pgRequestHedger;
 
+    /**
+     * 거래 조회
+     * <p>
+     * 응답이 최근 지연보다 늦으면 같은 조회를 한 번 더 보내 먼저 온 응답을 씁니다 (PgRequestHedger).
+     */
     @Retry(name = "pgRetry")
+    @Bulkhead(name = PgConcurrencyLimiter.BULKHEAD)
     public PgTransactionDetail getTransaction(String userId, String pgTransactionId) {
-        return pgClient.getTransaction(userId, pgTransactionId);
+        return PgAsyncClient.await(pgRequestHedger.execute(() -> pgAsyncClient.getTransaction(userId, pgTransactionId)));
+    }
+
+    /**
+     * 거래 조회 (비동기)
+     * <p>
+     * 여러 건을 동시에 조회할 때 호출 스레드를 잡지 않도록 future 를 그대로 돌려줍니다. 재시도와 헤징은 하지 않습니다.
+     */
+    public CompletableFuture<PgTransactionDetail> getTransactionAsync(String userId, String pgTransactionId) {
+        return pgAsyncClient.getTransaction(userId, pgTransactionId);
     }
 }
@@ -2,8 +2,13 @@ package com.loopers.infrastructure.product;
 
 import com.loopers.domain.product.Product;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
@@ -19,6 +24,16 @@ public interface ProductJpaRepository extends JpaRepository<Product, Long> {
 
     List<Product> findByBrandId(Long brandId);
 
+    Slice<Product> findSliceBy(Pageable pageable);
+
+    Slice<Product> findSliceByBrandId(Long brandId, Pageable pageable);
+
+    long countByBrandId(Long brandId);
+
+    Window<Product> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Window<Product> findByBrandId(Long brandId, ScrollPosition position, Sort sort, Limit limit);
+
     @Query("SELECT p FROM Product p WHERE p.id = :id AND p.deletedAt IS NULL")
     Optional<Product> findByIdAndNotDeleted(Long id);
 
@@ -26,6 +41,22 @@ public interface ProductJpaRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE p.id = :id")
     Optional<Product> findByIdWithLock(Long id);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id")
+    List<Product> findAllByIdInWithLock(List<Long> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity, p.version = p.version + 1 " +
+            "WHERE p.id = :id AND p.stock >= :quantity")
+    int decreaseStockIfEnough(Long id, Long quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p SET p.stock = p.stock + :delta, p.version = p.version + 1 WHERE p.id = :id")
+    int adjustStock(Long id, long delta);
+
+    @Query("SELECT p.stock FROM Product p WHERE p.id = :id")
+    Optional<Long> findStockById(Long id);
+
     @Modifying
     @Query("UPDATE Product p SET p.totalLikes = p.totalLikes + 1 WHERE p.id = :id")
     void incrementLikeCount(Long id);
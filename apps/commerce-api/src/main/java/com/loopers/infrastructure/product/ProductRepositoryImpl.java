@@ -1,25 +1,50 @@
 package com.loopers.infrastructure.product;
 
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductCursor;
+import com.loopers.domain.product.ProductCursorPage;
+import com.loopers.domain.product.ProductListItem;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductSortType;
+import com.loopers.domain.product.QProduct;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorMessage;
 import com.loopers.support.error.ErrorType;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Component
 public class ProductRepositoryImpl implements ProductRepository {
 
+    private static final String SORT_ID = "id";
+    private static final String SORT_CREATED_AT = "createdAt";
+    private static final String SORT_PRICE = "price";
+    private static final String SORT_TOTAL_LIKES = "totalLikes";
+
     private final ProductJpaRepository productJpaRepository;
+    private final JPAQueryFactory queryFactory;
 
     @Override
     public Optional<Product> findById(Long id) {
@@ -58,6 +83,94 @@ public class ProductRepositoryImpl implements ProductRepository {
         return productJpaRepository.findByBrandId(brandId, pageRequest);
     }
 
+    @Override
+    public Slice<Product> findSlice(ProductSortType sortType, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size, createSort(sortType));
+
+        return productJpaRepository.findSliceBy(pageRequest);
+    }
+
+    @Override
+    public Slice<Product> findSliceByBrandId(Long brandId, ProductSortType sortType, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size, createSort(sortType));
+
+        return productJpaRepository.findSliceByBrandId(brandId, pageRequest);
+    }
+
+    /**
+     * 목록 항목 조회 (지연 조인)
+     * <p>
+     * 1. 정렬 인덱스만으로 페이지의 id를 찾고 (PK가 보조 인덱스에 포함되어 커버링 인덱스로 동작)
+     * 2. 찾은 id에 대해서만 목록 컬럼을 PK로 조회합니다.
+     * OFFSET 으로 건너뛰는 행은 테이블을 읽지 않으며, 엔티티 대신 필요한 컬럼만 DTO로 받습니다.
+     */
+    @Override
+    public Slice<ProductListItem> findListItems(Long brandId, ProductSortType sortType, int page, int size) {
+        QProduct product = QProduct.product;
+
+        List<Long> ids = queryFactory
+                .select(product.id)
+                .from(product)
+                .where(brandId != null ? product.brandId.eq(brandId) : null)
+                .orderBy(createOrderSpecifiers(sortType))
+                .offset((long) page * size)
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = ids.size() > size;
+        List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+
+        if (pageIds.isEmpty()) {
+            return new SliceImpl<>(List.of(), PageRequest.of(page, size), false);
+        }
+
+        Map<Long, ProductListItem> itemMap = queryFactory
+                .select(Projections.constructor(ProductListItem.class,
+                        product.id,
+                        product.name,
+                        product.price,
+                        product.totalLikes,
+                        product.brandId))
+                .from(product)
+                .where(product.id.in(pageIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(ProductListItem::id, Function.identity()));
+
+        List<ProductListItem> items = pageIds.stream()
+                .map(itemMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new SliceImpl<>(items, PageRequest.of(page, size), hasNext);
+    }
+
+    @Override
+    public long count() {
+        return productJpaRepository.count();
+    }
+
+    @Override
+    public long countByBrandId(Long brandId) {
+        return productJpaRepository.countByBrandId(brandId);
+    }
+
+    @Override
+    public ProductCursorPage findAllByCursor(ProductSortType sortType, ProductCursor cursor, int size) {
+        Window<Product> window = productJpaRepository.findAllBy(
+                toScrollPosition(cursor), createKeysetSort(sortType), Limit.of(size));
+
+        return toCursorPage(window, sortType);
+    }
+
+    @Override
+    public ProductCursorPage findByBrandIdByCursor(Long brandId, ProductSortType sortType, ProductCursor cursor, int size) {
+        Window<Product> window = productJpaRepository.findByBrandId(
+                brandId, toScrollPosition(cursor), createKeysetSort(sortType), Limit.of(size));
+
+        return toCursorPage(window, sortType);
+    }
+
     @Override
     public Product save(Product product) {
         return productJpaRepository.save(product);
@@ -73,6 +186,57 @@ public class ProductRepositoryImpl implements ProductRepository {
         return productJpaRepository.findByIdWithLock(id);
     }
 
+    @Override
+    public List<Product> findAllByIdInWithLock(List<Long> ids) {
+        return productJpaRepository.findAllByIdInWithLock(ids);
+    }
+
+    @Override
+    public int decreaseStockIfEnough(Long id, Long quantity) {
+        return productJpaRepository.decreaseStockIfEnough(id, quantity);
+    }
+
+    /**
+     * 여러 상품 재고를 UPDATE 한 문장으로 조건부 차감
+     * <p>
+     * 상품별 수량은 CASE 로 넘기고, 재고가 충분한 행만 차감됩니다.
+     * 반환값이 상품 수보다 작으면 일부 상품의 재고가 부족한 것이므로 호출한 쪽에서 트랜잭션을 롤백해야 합니다.
+     */
+    @Override
+    public int decreaseStocksIfEnough(Map<Long, Long> quantities) {
+        if (quantities.isEmpty()) {
+            return 0;
+        }
+
+        QProduct product = QProduct.product;
+        CaseBuilder.Cases<Long, NumberExpression<Long>> cases = null;
+        for (Map.Entry<Long, Long> entry : quantities.entrySet()) {
+            cases = cases == null
+                    ? new CaseBuilder().when(product.id.eq(entry.getKey())).then(entry.getValue())
+                    : cases.when(product.id.eq(entry.getKey())).then(entry.getValue());
+        }
+        NumberExpression<Long> quantity = cases.otherwise(0L);
+
+        // 벌크 UPDATE 전에 쓰기 지연된 변경을 먼저 반영
+        productJpaRepository.flush();
+
+        return (int) queryFactory.update(product)
+                .set(product.stock, product.stock.subtract(quantity))
+                .set(product.version, product.version.add(1L))
+                .where(product.id.in(quantities.keySet()), product.stock.goe(quantity))
+                .execute();
+    }
+
+    @Override
+    public Optional<Long> findStockById(Long id) {
+        return productJpaRepository.findStockById(id);
+    }
+
+    @Override
+    public int adjustStock(Long id, long delta) {
+        return productJpaRepository.adjustStock(id, delta);
+    }
+
     @Override
     public void flush() {
         productJpaRepository.flush();
@@ -95,4 +259,63 @@ public class ProductRepositoryImpl implements ProductRepository {
             case LIKES_DESC -> Sort.by(Sort.Direction.DESC, "totalLikes");
         };
     }
+
+    /**
+     * 목록 조회 정렬
+     * <p>
+     * 보조 정렬 id 는 항상 ASC 입니다. (brand_id, created_at DESC) 같은 DESC 인덱스에도 InnoDB 가 PK 를 ASC 로 덧붙이므로,
+     * id 까지 인덱스 순서와 같아야 filesort 없이 인덱스를 그대로 읽습니다.
+     */
+    private OrderSpecifier<?>[] createOrderSpecifiers(ProductSortType sortType) {
+        QProduct product = QProduct.product;
+
+        return switch (sortType) {
+            case LATEST -> new OrderSpecifier<?>[]{product.createdAt.desc(), product.id.asc()};
+            case PRICE_ASC -> new OrderSpecifier<?>[]{product.price.asc(), product.id.asc()};
+            case LIKES_DESC -> new OrderSpecifier<?>[]{product.totalLikes.desc(), product.id.asc()};
+        };
+    }
+
+    /**
+     * 커서 조회용 정렬
+     * <p>
+     * 정렬 값이 같은 상품의 순서를 고정하기 위해 id 를 ASC 로 덧붙입니다.
+     * InnoDB 보조 인덱스는 정렬 컬럼 방향과 관계없이 PK 를 ASC 로 포함하므로, DESC 정렬에서도
+     * (brand_id, 정렬 컬럼 DESC, id ASC) 순서로 인덱스를 그대로 탑니다.
+     */
+    private Sort createKeysetSort(ProductSortType sortType) {
+        return switch (sortType) {
+            case LATEST -> Sort.by(Sort.Order.desc(SORT_CREATED_AT), Sort.Order.asc(SORT_ID));
+            case PRICE_ASC -> Sort.by(Sort.Direction.ASC, SORT_PRICE, SORT_ID);
+            case LIKES_DESC -> Sort.by(Sort.Order.desc(SORT_TOTAL_LIKES), Sort.Order.asc(SORT_ID));
+        };
+    }
+
+    private ScrollPosition toScrollPosition(ProductCursor cursor) {
+        if (cursor == null) {
+            return ScrollPosition.keyset();
+        }
+
+        String sortProperty = switch (cursor.sortType()) {
+            case LATEST -> SORT_CREATED_AT;
+            case PRICE_ASC -> SORT_PRICE;
+            case LIKES_DESC -> SORT_TOTAL_LIKES;
+        };
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put(sortProperty, cursor.sortValue());
+        keys.put(SORT_ID, cursor.id());
+
+        return ScrollPosition.forward(keys);
+    }
+
+    private ProductCursorPage toCursorPage(Window<Product> window, ProductSortType sortType) {
+        List<Product> products = window.getContent();
+
+        ProductCursor nextCursor = window.hasNext() && !products.isEmpty()
+                ? ProductCursor.from(products.get(products.size() - 1), sortType)
+                : null;
+
+        return new ProductCursorPage(products, nextCursor);
+    }
 }
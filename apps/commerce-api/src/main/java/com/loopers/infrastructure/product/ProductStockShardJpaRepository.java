@@ -0,0 +1,44 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductStockShard;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductStockShardJpaRepository extends JpaRepository<ProductStockShard, Long> {
+
+    List<ProductStockShard> findByProductIdOrderByShardNo(Long productId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductStockShard s WHERE s.productId = :productId ORDER BY s.shardNo")
+    List<ProductStockShard> findByProductIdWithLock(Long productId);
+
+    @Query(value = "SELECT shard_no, stock FROM product_stock_shards WHERE product_id = :productId " +
+            "ORDER BY shard_no FOR UPDATE", nativeQuery = true)
+    List<Object[]> findStocksWithLock(Long productId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProductStockShard s SET s.stock = s.stock - :quantity " +
+            "WHERE s.productId = :productId AND s.shardNo = :shardNo AND s.stock >= :quantity")
+    int decreaseIfEnough(Long productId, int shardNo, Long quantity);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ProductStockShard s SET s.stock = s.stock + :quantity " +
+            "WHERE s.productId = :productId AND s.shardNo = :shardNo")
+    int increase(Long productId, int shardNo, Long quantity);
+
+    @Query("SELECT s.stock FROM ProductStockShard s WHERE s.productId = :productId AND s.shardNo = :shardNo")
+    Optional<Long> findStock(Long productId, int shardNo);
+
+    @Query("SELECT SUM(s.stock) FROM ProductStockShard s WHERE s.productId = :productId")
+    Long sumStock(Long productId);
+
+    @Query("SELECT s.productId, SUM(s.stock) FROM ProductStockShard s " +
+            "WHERE s.productId IN :productIds GROUP BY s.productId")
+    List<Object[]> sumStockByProductIds(List<Long> productIds);
+}
@@ -0,0 +1,76 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductStockShard;
+import com.loopers.domain.product.ProductStockShardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Component
+public class ProductStockShardRepositoryImpl implements ProductStockShardRepository {
+
+    private final ProductStockShardJpaRepository productStockShardJpaRepository;
+
+    @Override
+    public List<ProductStockShard> findByProductId(Long productId) {
+        return productStockShardJpaRepository.findByProductIdOrderByShardNo(productId);
+    }
+
+    @Override
+    public List<ProductStockShard> findByProductIdWithLock(Long productId) {
+        return productStockShardJpaRepository.findByProductIdWithLock(productId);
+    }
+
+    @Override
+    public Map<Integer, Long> findStocksWithLock(Long productId) {
+        Map<Integer, Long> stocks = new LinkedHashMap<>();
+        for (Object[] row : productStockShardJpaRepository.findStocksWithLock(productId)) {
+            stocks.put(((Number) row[0]).intValue(), ((Number) row[1]).longValue());
+        }
+        return stocks;
+    }
+
+    @Override
+    public List<ProductStockShard> saveAll(List<ProductStockShard> shards) {
+        return productStockShardJpaRepository.saveAll(shards);
+    }
+
+    @Override
+    public int decreaseIfEnough(Long productId, int shardNo, Long quantity) {
+        return productStockShardJpaRepository.decreaseIfEnough(productId, shardNo, quantity);
+    }
+
+    @Override
+    public int increase(Long productId, int shardNo, Long quantity) {
+        return productStockShardJpaRepository.increase(productId, shardNo, quantity);
+    }
+
+    @Override
+    public Optional<Long> findStock(Long productId, int shardNo) {
+        return productStockShardJpaRepository.findStock(productId, shardNo);
+    }
+
+    @Override
+    public Optional<Long> sumStock(Long productId) {
+        return Optional.ofNullable(productStockShardJpaRepository.sumStock(productId));
+    }
+
+    @Override
+    public Map<Long, Long> sumStockByProductIds(List<Long> productIds) {
+        Map<Long, Long> stocks = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return stocks;
+        }
+
+        for (Object[] row : productStockShardJpaRepository.sumStockByProductIds(productIds)) {
+            stocks.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return stocks;
+    }
+}
@@ -0,0 +1,206 @@
+package com.loopers.infrastructure.stock;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.strategy.StockDecreaseResult;
+import com.loopers.domain.product.strategy.StockDecreaseStrategy;
+import com.loopers.domain.product.strategy.StockEngineType;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorMessage;
+import com.loopers.support.error.ErrorType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Redis 재고 예약
+ * <p>
+ * 가용 재고를 Redis에 두고 Lua 스크립트로 "충분하면 차감"을 원자적으로 수행합니다.
+ * MySQL 행 락 없이 예약이 끝나며, DB 재고는 {@link StockReservationReconciler}가 비동기로 맞춥니다.
+ * <p>
+ * - stock:available:{id}: 예약 가능한 재고 (최초 조회 시 DB 재고로 초기화)
+ * - stock:pending:{id}: 아직 DB에 반영되지 않은 차감량 (복구 시 음수 가능)
+ * - stock:pending:products: 반영 대기 중인 상품 ID
+ */
+@Slf4j
+@Component
+public class RedisStockReservationStrategy implements StockDecreaseStrategy {
+
+    static final String AVAILABLE_KEY_PREFIX = "stock:available:";
+    static final String PENDING_KEY_PREFIX = "stock:pending:";
+    static final String PENDING_PRODUCTS_KEY = "stock:pending:products";
+
+    private static final long NOT_INITIALIZED = -2L;
+    private static final long NOT_ENOUGH = -1L;
+
+    private static final String RESERVE_SCRIPT = """
+            local stock = redis.call('GET', KEYS[1])
+            if not stock then
+                return -2
+            end
+            local quantity = tonumber(ARGV[1])
+            if tonumber(stock) < quantity then
+                return -1
+            end
+            local remaining = redis.call('DECRBY', KEYS[1], quantity)
+            redis.call('INCRBY', KEYS[2], quantity)
+            redis.call('SADD', KEYS[3], ARGV[2])
+            return remaining
+            """;
+
+    private static final String RELEASE_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('INCRBY', KEYS[1], ARGV[1])
+            end
+            redis.call('DECRBY', KEYS[2], ARGV[1])
+            redis.call('SADD', KEYS[3], ARGV[2])
+            return 1
+            """;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductRepository productRepository;
+    private final DefaultRedisScript<Long> reserveScript;
+    private final DefaultRedisScript<Long> releaseScript;
+
+    public RedisStockReservationStrategy(
+            RedisTemplate<String, String> redisTemplate,
+            ProductRepository productRepository) {
+        this.redisTemplate = redisTemplate;
+        this.productRepository = productRepository;
+        this.reserveScript = new DefaultRedisScript<>(RESERVE_SCRIPT, Long.class);
+        this.releaseScript = new DefaultRedisScript<>(RELEASE_SCRIPT, Long.class);
+    }
+
+    @Override
+    public boolean supports(StockEngineType engineType) {
+        return engineType == StockEngineType.REDIS_RESERVATION;
+    }
+
+    @Override
+    public StockDecreaseResult decrease(Long productId, Long quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "차감 수량은 0보다 커야 합니다.");
+        }
+
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new CoreException(
+                        ErrorType.NOT_FOUND,
+                        ErrorMessage.PRODUCT_NOT_FOUND
+                ));
+
+        Long remaining = reserve(productId, quantity);
+        if (remaining == NOT_INITIALIZED) {
+            initialize(productId);
+            remaining = reserve(productId, quantity);
+        }
+
+        if (remaining == null || remaining < 0) {
+            throw new CoreException(
+                    ErrorType.BAD_REQUEST,
+                    String.format("상품 '%s'의 재고가 부족합니다.", product.getName())
+            );
+        }
+
+        // 주문 트랜잭션이 롤백되면 예약도 되돌림
+        releaseOnRollback(productId, quantity);
+
+        return new StockDecreaseResult(product, remaining);
+    }
+
+    /**
+     * 예약 가능한 재고
+     * <p>
+     * DB 재고는 아직 반영되지 않은 예약만큼 많아 보이므로 Redis 의 가용 재고를 읽습니다.
+     */
+    @Override
+    public long available(Long productId) {
+        String available = redisTemplate.opsForValue().get(AVAILABLE_KEY_PREFIX + productId);
+        if (available == null) {
+            initialize(productId);
+            available = redisTemplate.opsForValue().get(AVAILABLE_KEY_PREFIX + productId);
+        }
+
+        return available != null ? Math.max(Long.parseLong(available), 0L) : 0L;
+    }
+
+    /**
+     * 예약 반환
+     * <p>
+     * 트랜잭션 안에서 호출되면 커밋된 뒤에 반환합니다. (롤백 시 중복 반환 방지)
+     */
+    @Override
+    public void release(Long productId, Long quantity) {
+        if (quantity == null || quantity <= 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "증가 수량은 0보다 커야 합니다.");
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            releaseNow(productId, quantity);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                releaseNow(productId, quantity);
+            }
+        });
+    }
+
+    private Long reserve(Long productId, Long quantity) {
+        return redisTemplate.execute(
+                reserveScript,
+                List.of(AVAILABLE_KEY_PREFIX + productId, PENDING_KEY_PREFIX + productId, PENDING_PRODUCTS_KEY),
+                String.valueOf(quantity),
+                String.valueOf(productId)
+        );
+    }
+
+    /**
+     * 가용 재고 초기화
+     * <p>
+     * 여러 요청이 동시에 초기화해도 SET NX 로 한 번만 반영됩니다.
+     * 반영 대기 중인 차감량이 없을 때만 DB 재고가 곧 가용 재고입니다.
+     */
+    private void initialize(Long productId) {
+        long dbStock = productRepository.findStockById(productId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, ErrorMessage.PRODUCT_NOT_FOUND));
+        String pending = redisTemplate.opsForValue().get(PENDING_KEY_PREFIX + productId);
+        long available = dbStock - (pending != null ? Long.parseLong(pending) : 0L);
+
+        redisTemplate.opsForValue().setIfAbsent(AVAILABLE_KEY_PREFIX + productId, String.valueOf(available));
+    }
+
+    private void releaseOnRollback(Long productId, Long quantity) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    releaseNow(productId, quantity);
+                }
+            }
+        });
+    }
+
+    private void releaseNow(Long productId, Long quantity) {
+        try {
+            redisTemplate.execute(
+                    releaseScript,
+                    List.of(AVAILABLE_KEY_PREFIX + productId, PENDING_KEY_PREFIX + productId, PENDING_PRODUCTS_KEY),
+                    String.valueOf(quantity),
+                    String.valueOf(productId)
+            );
+        } catch (Exception e) {
+            log.error("재고 예약 반환 실패. productId: {}, quantity: {}", productId, quantity, e);
+        }
+    }
+}
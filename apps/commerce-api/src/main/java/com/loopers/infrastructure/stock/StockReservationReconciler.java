@@ -0,0 +1,83 @@
+package com.loopers.infrastructure.stock;
+
+import com.loopers.domain.product.ProductDomainService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis 재고 예약 → DB 반영
+ * <p>
+ * 예약 시 쌓인 상품별 차감량을 주기적으로 꺼내 DB 재고에 한 번의 UPDATE로 반영합니다.
+ * 차감량은 꺼내는 순간 0으로 바뀌므로, 반영 중 들어온 예약은 다음 주기에 반영됩니다.
+ * DB 반영에 실패하면 꺼낸 차감량을 되돌려 다음 주기에 다시 시도합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "stock.engine", havingValue = "redis-reservation")
+public class StockReservationReconciler {
+
+    private static final String DRAIN_SCRIPT = """
+            local pending = tonumber(redis.call('GET', KEYS[1]) or '0')
+            redis.call('DEL', KEYS[1])
+            redis.call('SREM', KEYS[2], ARGV[1])
+            return pending
+            """;
+
+    private static final String RESTORE_SCRIPT = """
+            redis.call('INCRBY', KEYS[1], ARGV[1])
+            redis.call('SADD', KEYS[2], ARGV[2])
+            return 1
+            """;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductDomainService productDomainService;
+    private final DefaultRedisScript<Long> drainScript;
+    private final DefaultRedisScript<Long> restoreScript;
+
+    public StockReservationReconciler(
+            RedisTemplate<String, String> redisTemplate,
+            ProductDomainService productDomainService) {
+        this.redisTemplate = redisTemplate;
+        this.productDomainService = productDomainService;
+        this.drainScript = new DefaultRedisScript<>(DRAIN_SCRIPT, Long.class);
+        this.restoreScript = new DefaultRedisScript<>(RESTORE_SCRIPT, Long.class);
+    }
+
+    @Scheduled(fixedDelayString = "${stock.reservation.reconcile-interval-ms:500}")
+    public void reconcile() {
+        Set<String> productIds = redisTemplate.opsForSet().members(RedisStockReservationStrategy.PENDING_PRODUCTS_KEY);
+        if (productIds == null || productIds.isEmpty()) {
+            return;
+        }
+
+        for (String productId : productIds) {
+            reconcile(Long.valueOf(productId));
+        }
+    }
+
+    private void reconcile(Long productId) {
+        List<String> keys = List.of(
+                RedisStockReservationStrategy.PENDING_KEY_PREFIX + productId,
+                RedisStockReservationStrategy.PENDING_PRODUCTS_KEY
+        );
+
+        Long pending = redisTemplate.execute(drainScript, keys, String.valueOf(productId));
+        if (pending == null || pending == 0) {
+            return;
+        }
+
+        try {
+            productDomainService.applyReservedStock(productId, pending);
+        } catch (Exception e) {
+            log.warn("재고 예약 DB 반영 실패, 다음 주기에 재시도. productId: {}, pending: {}", productId, pending, e);
+            redisTemplate.execute(restoreScript, keys, String.valueOf(pending), String.valueOf(productId));
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.loopers.application.order.CardInfo;
 import com.loopers.application.order.OrderCreateCommand;
 import com.loopers.application.order.OrderFacade;
 import com.loopers.application.order.OrderInfo;
+import com.loopers.application.order.OrderIntakeQueue;
 import com.loopers.application.payment.PaymentFacade;
 import com.loopers.domain.order.Payment;
 import com.loopers.interfaces.api.ApiResponse;
@@ -18,6 +19,7 @@ import java.util.List;
 public class OrderController implements OrderApiSpec {
 
     private final OrderFacade orderFacade;
+    private final OrderIntakeQueue orderIntakeQueue;
     private final PaymentFacade paymentFacade;
 
     @Override
@@ -27,7 +29,7 @@ public class OrderController implements OrderApiSpec {
             @RequestBody OrderDto.OrderCreateRequest request
     ) {
         OrderCreateCommand command = toCommand(userId, request);
-        OrderInfo info = orderFacade.createOrder(command);
+        OrderInfo info = orderIntakeQueue.createOrder(command);
         return ApiResponse.success(OrderDto.OrderResponse.from(info));
     }
 
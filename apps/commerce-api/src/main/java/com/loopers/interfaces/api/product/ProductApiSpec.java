@@ -18,6 +18,15 @@ public interface ProductApiSpec {
 
                                                             @Parameter(description = "페이지당 상품 수", schema = @Schema(defaultValue = "20")) int size);
 
+    @Operation(summary = "상품 목록 커서 조회", description = "이전 응답의 nextCursor로 다음 페이지를 조회합니다.")
+    ApiResponse<ProductDto.ProductCursorListResponse> getProductsByCursor(@Parameter(description = "브랜드 ID (선택)") Long brandId,
+
+                                                                        @Parameter(description = "정렬 기준", schema = @Schema(allowableValues = {"latest", "price_asc", "likes_desc"}, defaultValue = "latest")) String sort,
+
+                                                                        @Parameter(description = "다음 페이지 커서 (첫 페이지면 생략)") String cursor,
+
+                                                                        @Parameter(description = "페이지당 상품 수", schema = @Schema(defaultValue = "20")) int size);
+
     @Operation(
             summary = "상품 상세 조회",
             description = "상품 ID로 상세 정보를 조회합니다."
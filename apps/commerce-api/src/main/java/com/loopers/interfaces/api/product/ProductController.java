@@ -25,6 +25,19 @@ public class ProductController implements ProductApiSpec {
         return ApiResponse.success(response);
     }
 
+    @Override
+    @GetMapping("/cursor")
+    public ApiResponse<ProductDto.ProductCursorListResponse> getProductsByCursor(
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        ProductDto.ProductCursorListResponse response = productFacade.getProductsByCursor(brandId, sort, cursor, size);
+
+        return ApiResponse.success(response);
+    }
+
     @Override
     @GetMapping("/{productId}")
     public ApiResponse<ProductDto.ProductDetailResponse> getProduct(
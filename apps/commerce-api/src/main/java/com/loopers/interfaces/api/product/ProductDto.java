@@ -2,31 +2,72 @@ package com.loopers.interfaces.api.product;
 
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductCursorPage;
+import com.loopers.domain.product.ProductListItem;
 import com.loopers.infrastructure.cache.ProductDetailCache;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.Map;
 
 public class ProductDto {
 
+    /**
+     * @param totalCount 전체 상품 수 (개수를 세지 않는 모드에서는 -1)
+     * @param hasNext    다음 페이지 존재 여부
+     */
     public record ProductListResponse(
             List<ProductResponse> products,
-            long totalCount
+            long totalCount,
+            boolean hasNext
     ) {
+        public static final long UNKNOWN_TOTAL_COUNT = -1L;
+
         public static ProductListResponse from(
-                Page<Product> products,
-                Map<Long, Brand> brandMap
+                Slice<Product> products,
+                Map<Long, Brand> brandMap,
+                long totalCount
         ) {
             List<ProductResponse> productResponses = products.getContent().stream()
                     .map(product -> ProductResponse.from(product, brandMap.get(product.getBrandId())))
                     .toList();
 
-            return new ProductListResponse(productResponses, products.getTotalElements());
+            return new ProductListResponse(productResponses, totalCount, products.hasNext());
+        }
+
+        public static ProductListResponse fromListItems(
+                Slice<ProductListItem> items,
+                Map<Long, Brand> brandMap,
+                long totalCount
+        ) {
+            List<ProductResponse> productResponses = items.getContent().stream()
+                    .map(item -> ProductResponse.from(item, brandMap.get(item.brandId())))
+                    .toList();
+
+            return new ProductListResponse(productResponses, totalCount, items.hasNext());
         }
 
     }
 
+    public record ProductCursorListResponse(
+            List<ProductResponse> products,
+            String nextCursor,
+            boolean hasNext
+    ) {
+        public static ProductCursorListResponse from(
+                ProductCursorPage page,
+                Map<Long, Brand> brandMap
+        ) {
+            List<ProductResponse> productResponses = page.products().stream()
+                    .map(product -> ProductResponse.from(product, brandMap.get(product.getBrandId())))
+                    .toList();
+
+            String nextCursor = page.hasNext() ? page.nextCursor().encode() : null;
+
+            return new ProductCursorListResponse(productResponses, nextCursor, page.hasNext());
+        }
+    }
+
     public record ProductResponse(
             Long id,
             String name,
@@ -43,6 +84,26 @@ public class ProductDto {
                     BrandSummary.from(brand)
             );
         }
+
+        public static ProductResponse from(ProductListItem item, Brand brand) {
+            return new ProductResponse(
+                    item.id(),
+                    item.name(),
+                    item.price(),
+                    item.totalLikes(),
+                    BrandSummary.from(brand)
+            );
+        }
+
+        public static ProductResponse from(Long productId, ProductDetailCache cache) {
+            return new ProductResponse(
+                    productId,
+                    cache.getName(),
+                    cache.getPrice(),
+                    cache.getTotalLikes(),
+                    cache.getBrand()
+            );
+        }
     }
 
     public record ProductDetailResponse(
@@ -0,0 +1,29 @@
+package com.loopers.support.concurrent;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 애플리케이션 전용 실행기의 스레드 생성
+ * <p>
+ * spring.threads.virtual.enabled=true 이면 가상 스레드를, 아니면 데몬 플랫폼 스레드를 만듭니다.
+ * 풀 크기와 큐 크기는 실행기마다 그대로 유지되므로, 가상 스레드에서도 동시 실행 수 제한은 같습니다.
+ */
+public final class ThreadFactories {
+
+    private ThreadFactories() {
+    }
+
+    public static ThreadFactory named(String prefix, boolean virtual) {
+        if (virtual) {
+            return Thread.ofVirtual().name(prefix + "-", 1).factory();
+        }
+
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.loopers.support.scheduling;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화
+ * <p>
+ * 재고 예약 반영, 결제 대사, PG 동시 호출 한도 조정, Outbox 보관 정리 등 주기 작업을 실행합니다.
+ * 테스트는 scheduling.enabled=false 로 끄고 작업 메서드를 직접 호출합니다 (스케줄 동작을 검증하는 테스트만 켬).
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -0,0 +1,191 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.point.PointAccountDomainService;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductDomainService;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.interfaces.api.order.OrderDto;
+import com.loopers.support.error.CoreException;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.NestedTestConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {"order.intake.enabled=true", "order.intake.window-ms=20"})
+class OrderIntakeQueueIntegrationTest {
+
+    @Autowired
+    private OrderIntakeQueue orderIntakeQueue;
+
+    @Autowired
+    private PointAccountDomainService pointAccountDomainService;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("같은 상품 주문을 모아 처리해도 재고만큼만 주문이 완료되고 나머지는 재고 부족으로 실패한다")
+    void orderIntakeTest1() throws InterruptedException {
+        Product product = productJpaRepository.save(Product.create("상품", "설명", 1_000L, 10L, null));
+        int orderCount = 20;
+        for (int i = 0; i < orderCount; i++) {
+            pointAccountDomainService.createForUser("user-" + i);
+            pointAccountDomainService.charge("user-" + i, 10_000L);
+        }
+
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(orderCount);
+        CountDownLatch latch = new CountDownLatch(orderCount);
+
+        for (int i = 0; i < orderCount; i++) {
+            String userId = "user-" + i;
+            executor.submit(() -> {
+                try {
+                    OrderInfo info = orderIntakeQueue.createOrder(OrderCreateCommand.forPointPayment(
+                            userId, List.of(new OrderDto.OrderItemRequest(product.getId(), 1L))));
+                    if (OrderStatus.CONFIRMED.name().equals(info.status())) {
+                        successCount.incrementAndGet();
+                    }
+                } catch (CoreException e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(10);
+        assertThat(failCount.get()).isEqualTo(10);
+        assertThat(productJpaRepository.findById(product.getId()).get().getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("재고를 할당받은 뒤 결제에 실패하면 할당된 재고를 돌려놓는다")
+    void orderIntakeTest2() {
+        Product product = productJpaRepository.save(Product.create("상품", "설명", 10_000L, 10L, null));
+        pointAccountDomainService.createForUser("poor-user");
+        pointAccountDomainService.charge("poor-user", 1_000L);
+
+        assertThatThrownBy(() -> orderIntakeQueue.createOrder(OrderCreateCommand.forPointPayment(
+                "poor-user", List.of(new OrderDto.OrderItemRequest(product.getId(), 2L)))))
+                .isInstanceOf(CoreException.class)
+                .hasMessageContaining("포인트가 부족합니다");
+
+        assertThat(productJpaRepository.findById(product.getId()).get().getStock()).isEqualTo(10L);
+    }
+
+    @Nested
+    @NestedTestConfiguration(NestedTestConfiguration.EnclosingConfiguration.OVERRIDE)
+    @SpringBootTest(properties = {
+            "order.intake.enabled=true",
+            "order.intake.window-ms=20",
+            "stock.engine=redis-reservation"
+    })
+    class RedisReservation {
+
+        @Autowired
+        private OrderIntakeQueue orderIntakeQueue;
+
+        @Autowired
+        private ProductDomainService productDomainService;
+
+        @Autowired
+        private PointAccountDomainService pointAccountDomainService;
+
+        @Autowired
+        private ProductJpaRepository productJpaRepository;
+
+        @Autowired
+        private PlatformTransactionManager transactionManager;
+
+        @Autowired
+        private DatabaseCleanUp databaseCleanUp;
+
+        @Autowired
+        private RedisCleanUp redisCleanUp;
+
+        @BeforeEach
+        void setUp() {
+            redisCleanUp.truncateAll();
+        }
+
+        @AfterEach
+        void tearDown() {
+            databaseCleanUp.truncateAllTables();
+            redisCleanUp.truncateAll();
+        }
+
+        @Test
+        @DisplayName("DB 에 아직 반영되지 않은 예약이 있어도 Redis 가용 재고만큼 주문을 받고 나머지만 실패한다")
+        void orderIntakeTest3() throws InterruptedException {
+            Product product = productJpaRepository.save(Product.create("상품", "설명", 1_000L, 10L, null));
+            // 예약만 하고 DB 반영 전 (DB 재고 10, Redis 가용 재고 4)
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    productDomainService.decreaseStock(product.getId(), 6L));
+
+            int orderCount = 8;
+            for (int i = 0; i < orderCount; i++) {
+                pointAccountDomainService.createForUser("user-" + i);
+                pointAccountDomainService.charge("user-" + i, 10_000L);
+            }
+
+            AtomicInteger successCount = new AtomicInteger();
+            AtomicInteger failCount = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(orderCount);
+            CountDownLatch latch = new CountDownLatch(orderCount);
+
+            for (int i = 0; i < orderCount; i++) {
+                String userId = "user-" + i;
+                executor.submit(() -> {
+                    try {
+                        OrderInfo info = orderIntakeQueue.createOrder(OrderCreateCommand.forPointPayment(
+                                userId, List.of(new OrderDto.OrderItemRequest(product.getId(), 1L))));
+                        if (OrderStatus.CONFIRMED.name().equals(info.status())) {
+                            successCount.incrementAndGet();
+                        }
+                    } catch (CoreException e) {
+                        failCount.incrementAndGet();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            latch.await();
+            executor.shutdown();
+
+            assertThat(successCount.get()).isEqualTo(4);
+            assertThat(failCount.get()).isEqualTo(4);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductDomainService;
+import com.loopers.domain.product.StockAllocation;
+import com.loopers.infrastructure.cache.ProductCacheService;
+import com.loopers.interfaces.api.order.OrderDto;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIntakeQueueTest {
+
+    @Mock
+    private OrderFacade orderFacade;
+
+    @Mock
+    private ProductDomainService productDomainService;
+
+    @Mock
+    private ProductCacheService productCacheService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderIntakeQueue orderIntakeQueue;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        orderIntakeQueue = new OrderIntakeQueue(orderFacade, productDomainService, productCacheService, transactionManager,
+                new SimpleMeterRegistry(), true, 1, 100, 1, 3_000, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderIntakeQueue.shutdown();
+    }
+
+    @Test
+    @DisplayName("재고를 읽은 뒤 다른 주문에 밀려 할당에 실패하면 새 트랜잭션에서 다시 할당한다")
+    void allocateRetryTest() {
+        Product product = mock(Product.class);
+        OrderInfo orderInfo = new OrderInfo(1L, "user", List.of(), 1_000L, 0L, 1_000L, "CONFIRMED");
+        when(productDomainService.allocateStock(eq(1L), eq(List.of(1L))))
+                .thenThrow(new CoreException(ErrorType.BAD_REQUEST, "상품의 재고가 부족합니다."))
+                .thenReturn(new StockAllocation(product, Set.of(0)));
+        when(orderFacade.createOrderWithAllocatedStock(any(), eq(product))).thenReturn(orderInfo);
+
+        OrderInfo result = orderIntakeQueue.createOrder(OrderCreateCommand.forPointPayment(
+                "user", List.of(new OrderDto.OrderItemRequest(1L, 1L))));
+
+        assertThat(result).isEqualTo(orderInfo);
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager).rollback(any());
+    }
+}
@@ -0,0 +1,66 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.point.PointAccountDomainService;
+import com.loopers.domain.product.Product;
+import com.loopers.infrastructure.order.OrderJpaRepository;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.interfaces.api.order.OrderDto;
+import com.loopers.support.error.CoreException;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "order.intake.enabled=true",
+        "order.intake.window-ms=300",
+        "order.intake.timeout-ms=50"
+})
+class OrderIntakeQueueTimeoutTest {
+
+    @Autowired
+    private OrderIntakeQueue orderIntakeQueue;
+
+    @Autowired
+    private PointAccountDomainService pointAccountDomainService;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나 실패를 받은 주문은 배치가 처리하지 않아 주문이 생기지 않고 재고도 그대로다")
+    void orderIntakeTimeoutTest() throws InterruptedException {
+        Product product = productJpaRepository.save(Product.create("상품", "설명", 1_000L, 10L, null));
+        pointAccountDomainService.createForUser("user");
+        pointAccountDomainService.charge("user", 10_000L);
+
+        assertThatThrownBy(() -> orderIntakeQueue.createOrder(OrderCreateCommand.forPointPayment(
+                "user", List.of(new OrderDto.OrderItemRequest(product.getId(), 1L)))))
+                .isInstanceOf(CoreException.class)
+                .hasMessageContaining("시간이 초과");
+
+        // 배치 처리 시점(window-ms)이 지난 뒤 확인
+        Thread.sleep(600);
+
+        assertThat(orderJpaRepository.count()).isZero();
+        assertThat(productJpaRepository.findById(product.getId()).get().getStock()).isEqualTo(10L);
+    }
+}
@@ -0,0 +1,57 @@
+package com.loopers.application.payment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CardPaymentExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CardPaymentExecutor cardPaymentExecutor = new CardPaymentExecutor(meterRegistry, 1, 1, false);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        cardPaymentExecutor.destroy();
+    }
+
+    @Test
+    @DisplayName("스레드와 큐가 모두 차면 작업을 받지 않고 거절 처리를 호출한다")
+    void executeTest1() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(2);
+        AtomicInteger rejected = new AtomicInteger();
+
+        cardPaymentExecutor.execute(() -> {
+            started.countDown();
+            await(release);
+            finished.countDown();
+        }, rejected::incrementAndGet);
+        started.await(1, TimeUnit.SECONDS);
+
+        cardPaymentExecutor.execute(finished::countDown, rejected::incrementAndGet);
+        cardPaymentExecutor.execute(finished::countDown, rejected::incrementAndGet);
+
+        assertThat(rejected.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("payment.card.executor.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(finished.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("payment.card.executor.queue.wait").timer().count()).isEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
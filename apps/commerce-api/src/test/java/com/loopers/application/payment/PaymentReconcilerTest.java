@@ -0,0 +1,111 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.order.Payment;
+import com.loopers.domain.order.PaymentDomainService;
+import com.loopers.domain.order.PaymentStatus;
+import com.loopers.domain.order.PaymentType;
+import com.loopers.infrastructure.pg.PgServerException;
+import com.loopers.infrastructure.pg.PgTransactionService;
+import com.loopers.infrastructure.pg.dto.PgTransactionDetail;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentReconcilerTest {
+
+    @Mock
+    private PaymentDomainService paymentDomainService;
+
+    @Mock
+    private PgTransactionService pgTransactionService;
+
+    @Mock
+    private PaymentFacade paymentFacade;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentReconciler paymentReconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        paymentReconciler = new PaymentReconciler(paymentDomainService, pgTransactionService, paymentFacade,
+                meterRegistry, RateLimiterRegistry.ofDefaults(), 5, 2, 2);
+    }
+
+    @Test
+    @DisplayName("PENDING 결제를 id 커서로 나눠 조회하고 PG 결과를 결제에 반영한다")
+    void reconcileTest1() {
+        Payment first = createPayment(1L, 101L, "TR-1");
+        Payment second = createPayment(2L, 102L, "TR-2");
+        Payment third = createPayment(3L, 103L, "TR-3");
+        PgTransactionDetail success = mock(PgTransactionDetail.class);
+        PgTransactionDetail failed = mock(PgTransactionDetail.class);
+        PgTransactionDetail pending = mock(PgTransactionDetail.class);
+
+        when(paymentDomainService.getPendingPaymentsBefore(any(), eq(0L), eq(2))).thenReturn(List.of(first, second));
+        when(paymentDomainService.getPendingPaymentsBefore(any(), eq(2L), eq(2))).thenReturn(List.of(third));
+        when(pgTransactionService.getTransactionAsync("user1", "TR-1")).thenReturn(CompletableFuture.completedFuture(success));
+        when(pgTransactionService.getTransactionAsync("user1", "TR-2")).thenReturn(CompletableFuture.completedFuture(failed));
+        when(pgTransactionService.getTransactionAsync("user1", "TR-3")).thenReturn(CompletableFuture.completedFuture(pending));
+        when(paymentFacade.reconcilePayment(101L, success)).thenReturn(PaymentStatus.SUCCESS);
+        when(paymentFacade.reconcilePayment(102L, failed)).thenReturn(PaymentStatus.FAILED);
+        when(paymentFacade.reconcilePayment(103L, pending)).thenReturn(PaymentStatus.PENDING);
+
+        paymentReconciler.reconcile();
+
+        assertThat(resultCount("success")).isEqualTo(1.0);
+        assertThat(resultCount("failed")).isEqualTo(1.0);
+        assertThat(resultCount("pending")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("PG 조회에 실패한 결제는 건너뛰고 나머지 결제는 계속 반영한다")
+    void reconcileTest2() {
+        Payment first = createPayment(1L, 101L, "TR-1");
+        Payment second = createPayment(2L, 102L, "TR-2");
+        PgTransactionDetail success = mock(PgTransactionDetail.class);
+
+        when(paymentDomainService.getPendingPaymentsBefore(any(), eq(0L), anyInt())).thenReturn(List.of(first, second));
+        when(paymentDomainService.getPendingPaymentsBefore(any(), eq(2L), anyInt())).thenReturn(List.of());
+        when(pgTransactionService.getTransactionAsync("user1", "TR-1"))
+                .thenReturn(CompletableFuture.failedFuture(new PgServerException("get-transaction", 503, "unavailable")));
+        when(pgTransactionService.getTransactionAsync("user1", "TR-2")).thenReturn(CompletableFuture.completedFuture(success));
+        when(paymentFacade.reconcilePayment(102L, success)).thenReturn(PaymentStatus.SUCCESS);
+
+        paymentReconciler.reconcile();
+
+        verify(paymentFacade, never()).reconcilePayment(eq(101L), any());
+        assertThat(resultCount("error")).isEqualTo(1.0);
+        assertThat(resultCount("success")).isEqualTo(1.0);
+    }
+
+    private double resultCount(String result) {
+        return meterRegistry.get("payment.reconcile.results").tag("result", result).counter().count();
+    }
+
+    private static Payment createPayment(Long id, Long orderId, String pgTransactionId) {
+        Payment payment = Payment.create(orderId, "user1", 10_000L, PaymentType.CARD_ONLY);
+        payment.updatePgTransactionId(pgTransactionId);
+        ReflectionTestUtils.setField(payment, "id", id);
+        return payment;
+    }
+}
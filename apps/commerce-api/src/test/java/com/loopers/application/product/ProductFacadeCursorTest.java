@@ -0,0 +1,108 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.interfaces.api.product.ProductDto;
+import com.loopers.support.error.CoreException;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class ProductFacadeCursorTest {
+
+    @Autowired
+    private ProductFacade productFacade;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private Brand brand;
+
+    @BeforeEach
+    void setUp() {
+        brand = brandJpaRepository.save(Brand.create("테스트브랜드"));
+        // 가격이 같은 상품을 섞어 id 보조 정렬을 검증
+        for (int i = 1; i <= 5; i++) {
+            productRepository.save(Product.create("상품" + i, "설명" + i, 10000L * ((i + 1) / 2), 100L, brand.getId()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("커서로 끝까지 조회하면 모든 상품을 중복 없이 정렬 순서대로 받는다")
+    void getProductsByCursorTest1() {
+        List<ProductDto.ProductResponse> collected = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            ProductDto.ProductCursorListResponse response =
+                    productFacade.getProductsByCursor(brand.getId(), "price_asc", cursor, 2);
+            collected.addAll(response.products());
+            cursor = response.nextCursor();
+        } while (cursor != null);
+
+        assertThat(collected).hasSize(5);
+        assertThat(collected).extracting(ProductDto.ProductResponse::id).doesNotHaveDuplicates();
+        assertThat(collected).extracting(ProductDto.ProductResponse::price).isSorted();
+    }
+
+    @Test
+    @DisplayName("내림차순 정렬에서 정렬 값이 같으면 id 오름차순으로 중복 없이 이어진다")
+    void getProductsByCursorTest4() {
+        List<ProductDto.ProductResponse> collected = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            ProductDto.ProductCursorListResponse response =
+                    productFacade.getProductsByCursor(brand.getId(), "likes_desc", cursor, 2);
+            collected.addAll(response.products());
+            cursor = response.nextCursor();
+        } while (cursor != null);
+
+        assertThat(collected).hasSize(5);
+        assertThat(collected).extracting(ProductDto.ProductResponse::id).isSorted();
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 hasNext가 false이고 커서가 없다")
+    void getProductsByCursorTest2() {
+        ProductDto.ProductCursorListResponse response =
+                productFacade.getProductsByCursor(null, "latest", null, 10);
+
+        assertThat(response.products()).hasSize(5);
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 정렬 기준으로 발급된 커서는 거부한다")
+    void getProductsByCursorTest3() {
+        String cursor = productFacade.getProductsByCursor(null, "latest", null, 2).nextCursor();
+
+        assertThatThrownBy(() -> productFacade.getProductsByCursor(null, "likes_desc", cursor, 2))
+                .isInstanceOf(CoreException.class);
+    }
+}
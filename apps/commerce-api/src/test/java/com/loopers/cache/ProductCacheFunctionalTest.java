@@ -5,6 +5,7 @@ import com.loopers.domain.brand.Brand;
 import com.loopers.domain.product.Product;
 import com.loopers.infrastructure.brand.BrandJpaRepository;
 import com.loopers.infrastructure.cache.ProductCacheService;
+import com.loopers.infrastructure.cache.ProductListCacheKey;
 import com.loopers.infrastructure.product.ProductJpaRepository;
 import com.loopers.interfaces.api.product.ProductDto;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,6 +34,9 @@ class ProductCacheFunctionalTest {
     @Autowired
     private BrandJpaRepository brandRepository;
 
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
     private Brand testBrand;
     private Product testProduct;
 
@@ -109,4 +114,80 @@ class ProductCacheFunctionalTest {
         assertThat(first.totalCount()).isEqualTo(second.totalCount());
         assertThat(first.products()).hasSameSizeAs(second.products());
     }
+
+    @DisplayName("목록 캐시 무효화 후에는 이전 세대 캐시 대신 DB 최신 데이터를 반환한다")
+    @Test
+    void testListCacheInvalidatedByVersion() {
+        productFacade.getProducts(null, "latest", 0, 20);
+        Product newProduct = productRepository.save(Product.create(
+                "New Product",
+                "New Description",
+                30000L,
+                10L,
+                testBrand.getId()
+        ));
+
+        productCacheService.invalidateProductListCaches();
+        ProductDto.ProductListResponse refreshed = productFacade.getProducts(null, "latest", 0, 20);
+
+        assertThat(refreshed.products()).anyMatch(p -> p.id().equals(newProduct.getId()));
+    }
+
+    @DisplayName("브랜드 목록 캐시 무효화는 해당 브랜드 목록 키의 세대만 바꾼다")
+    @Test
+    void testBrandListCacheVersion() {
+        ProductListCacheKey before = productCacheService.resolveProductListKey(testBrand.getId(), "latest", 0, 20);
+        ProductListCacheKey globalBefore = productCacheService.resolveProductListKey(null, "latest", 0, 20);
+
+        productCacheService.invalidateBrandProductListCaches(testBrand.getId());
+
+        assertThat(productCacheService.resolveProductListKey(testBrand.getId(), "latest", 0, 20).toRedisKey())
+                .isNotEqualTo(before.toRedisKey());
+        assertThat(productCacheService.resolveProductListKey(null, "latest", 0, 20).toRedisKey())
+                .isEqualTo(globalBefore.toRedisKey());
+    }
+
+    @DisplayName("좋아요순 무효화는 좋아요순 목록만 바꾸고 최신순 목록 캐시는 유지한다")
+    @Test
+    void testLikesSortedInvalidationKeepsOtherSorts() {
+        productFacade.getProducts(null, "latest", 0, 20);
+        ProductListCacheKey latestBefore = productCacheService.resolveProductListKey(null, "latest", 0, 20);
+        ProductListCacheKey likesBefore = productCacheService.resolveProductListKey(testBrand.getId(), "likes_desc", 0, 20);
+
+        productCacheService.invalidateLikesSortedListCaches(testBrand.getId());
+
+        ProductListCacheKey latestAfter = productCacheService.resolveProductListKey(null, "latest", 0, 20);
+        assertThat(latestAfter.toRedisKey()).isEqualTo(latestBefore.toRedisKey());
+        assertThat(productCacheService.getProductListResponse(latestAfter)).isPresent();
+        assertThat(productCacheService.resolveProductListKey(testBrand.getId(), "likes_desc", 0, 20).toRedisKey())
+                .isNotEqualTo(likesBefore.toRedisKey());
+    }
+
+    @DisplayName("상품이 포함된 목록 페이지만 삭제한다")
+    @Test
+    void testInvalidateListPagesContainingProduct() {
+        Brand anotherBrand = brandRepository.save(Brand.create("Another Brand"));
+        productRepository.save(Product.create("Another Product", "Another Description", 20000L, 50L, anotherBrand.getId()));
+        productFacade.getProducts(testBrand.getId(), "latest", 0, 20);
+        productFacade.getProducts(anotherBrand.getId(), "latest", 0, 20);
+
+        productCacheService.invalidateProductListCachesContaining(testProduct.getId());
+
+        assertThat(productCacheService.getProductListResponse(
+                productCacheService.resolveProductListKey(testBrand.getId(), "latest", 0, 20))).isEmpty();
+        assertThat(productCacheService.getProductListResponse(
+                productCacheService.resolveProductListKey(anotherBrand.getId(), "latest", 0, 20))).isPresent();
+    }
+
+    @DisplayName("목록 페이지를 저장할 때 상품 역인덱스에서 이미 만료된 페이지를 걷어낸다")
+    @Test
+    void testListPageIndexDropsExpiredPages() {
+        String indexKey = "product:list:pages:" + testProduct.getId();
+        redisTemplate.opsForZSet().add(indexKey, "product:list:response:v0.0:all:latest:page:9:size:20", 1);
+
+        productFacade.getProducts(null, "latest", 0, 20);
+
+        assertThat(redisTemplate.opsForZSet().range(indexKey, 0, -1))
+                .containsExactly(productCacheService.resolveProductListKey(null, "latest", 0, 20).toRedisKey());
+    }
 }
@@ -0,0 +1,81 @@
+package com.loopers.cache;
+
+import com.loopers.application.product.ProductFacade;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.product.Product;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.cache.ProductCacheService;
+import com.loopers.infrastructure.cache.ProductListCacheKey;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.interfaces.api.product.ProductDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "cache.product.list.mode=ids")
+@Transactional
+class ProductListIdCacheFunctionalTest {
+
+    @Autowired
+    private ProductFacade productFacade;
+
+    @Autowired
+    private ProductCacheService productCacheService;
+
+    @Autowired
+    private ProductJpaRepository productRepository;
+
+    @Autowired
+    private BrandJpaRepository brandRepository;
+
+    private Brand testBrand;
+    private Product testProduct;
+
+    @BeforeEach
+    void setUp() {
+        productCacheService.clearAllProductCache();
+
+        testBrand = brandRepository.save(Brand.create("Test Brand"));
+        testProduct = productRepository.save(Product.create(
+                "Test Product",
+                "Test Description",
+                10000L,
+                100L,
+                testBrand.getId()
+        ));
+    }
+
+    @DisplayName("목록 조회 시 ID 목록과 페이지 상품의 상세 캐시가 함께 저장된다")
+    @Test
+    void testIdListAndDetailsCached() {
+        productFacade.getProducts(testBrand.getId(), "latest", 0, 20);
+
+        ProductListCacheKey cacheKey = productCacheService.resolveProductListKey(testBrand.getId(), "latest", 0, 20);
+        assertThat(productCacheService.getProductListIdsEntry(cacheKey))
+                .hasValueSatisfying(entry -> assertThat(entry.value().productIds()).containsExactly(testProduct.getId()));
+        assertThat(productCacheService.getProductDetails(List.of(testProduct.getId())))
+                .containsKey(testProduct.getId());
+    }
+
+    @DisplayName("상세 캐시만 무효화해도 목록 응답에 변경된 상품 정보가 반영된다")
+    @Test
+    void testDetailInvalidationReflectedInList() {
+        productFacade.getProducts(testBrand.getId(), "latest", 0, 20);
+
+        testProduct.increaseLikes();
+        productRepository.saveAndFlush(testProduct);
+        productCacheService.deleteProductDetail(testProduct.getId());
+
+        ProductDto.ProductListResponse response = productFacade.getProducts(testBrand.getId(), "latest", 0, 20);
+
+        assertThat(response.products()).singleElement()
+                .satisfies(product -> assertThat(product.totalLikes()).isEqualTo(testProduct.getTotalLikes()));
+    }
+}
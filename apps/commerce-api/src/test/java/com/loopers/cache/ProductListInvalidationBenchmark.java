@@ -0,0 +1,183 @@
+package com.loopers.cache;
+
+import com.loopers.infrastructure.cache.ProductCacheService;
+import com.loopers.utils.RedisCleanUp;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 목록 캐시 무효화 방식별 Redis 지연 시간 비교
+ * <p>
+ * 좋아요 10k/s 부하로 무효화를 일으키면서, 별도 스레드에서 GET 지연 시간(p50/p99)을 측정합니다.
+ * KEYS 는 패턴과 상관없이 키 공간 전체를 훑으므로, 상세 캐시 키를 고정 개수만큼 깔아 두고
+ * 조회가 목록 페이지를 다시 채우는 것처럼 측정 중에도 목록 키를 계속 써 넣어 키 공간 크기를 유지합니다.
+ * - KEYS: 기존 방식 (KEYS product:list:* + DEL)
+ * - INCR: 세대 번호 방식 (ProductCacheService.invalidateProductListCaches)
+ * <p>
+ * 실행: BENCHMARK=true ./gradlew :apps:commerce-api:test --tests "*ProductListInvalidationBenchmark"
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class ProductListInvalidationBenchmark {
+
+    private static final int LIST_KEY_COUNT = 50_000;
+    private static final int DETAIL_KEY_COUNT = 50_000;
+    private static final int LIST_REFILLS_PER_SECOND = 5_000;
+    private static final int LIKES_PER_SECOND = 10_000;
+    private static final Duration DURATION = Duration.ofSeconds(5);
+    private static final String PROBE_KEY = "product:detail:probe";
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private ProductCacheService productCacheService;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        redisCleanUp.truncateAll();
+        redisTemplate.opsForValue().set(PROBE_KEY, "probe");
+        fillDetailKeys();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("KEYS 기반 무효화 vs 세대 번호 INCR 무효화")
+    void compareInvalidationStrategies() throws Exception {
+        fillListKeys();
+        List<Long> keysLatencies = runWithLikeLoad(this::invalidateWithKeys);
+
+        fillListKeys();
+        List<Long> incrLatencies = runWithLikeLoad(productCacheService::invalidateProductListCaches);
+
+        log.info("[KEYS] probe GET p50={}us p99={}us max={}us",
+                percentile(keysLatencies, 50), percentile(keysLatencies, 99), percentile(keysLatencies, 100));
+        log.info("[INCR] probe GET p50={}us p99={}us max={}us",
+                percentile(incrLatencies, 50), percentile(incrLatencies, 99), percentile(incrLatencies, 100));
+    }
+
+    private void fillDetailKeys() {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < DETAIL_KEY_COUNT; i++) {
+                byte[] key = ("product:detail:" + i).getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().set(key, "{}".getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+    }
+
+    private void fillListKeys() {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < LIST_KEY_COUNT; i++) {
+                connection.stringCommands().set(listKey(i), "{}".getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+    }
+
+    private byte[] listKey(int page) {
+        return ("product:list:response:v0:brand:" + (page % 100) + ":latest:page:" + page + ":size:20")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void invalidateWithKeys() {
+        Set<String> listKeys = redisTemplate.keys("product:list:*");
+        if (listKeys != null && !listKeys.isEmpty()) {
+            redisTemplate.delete(listKeys);
+        }
+    }
+
+    private List<Long> runWithLikeLoad(Runnable invalidation) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(18);
+
+        executor.submit(() -> {
+            while (running.get()) {
+                long start = System.nanoTime();
+                redisTemplate.opsForValue().get(PROBE_KEY);
+                latencies.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+            }
+        });
+
+        int workers = 16;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) * workers / LIKES_PER_SECOND;
+        long deadline = System.nanoTime() + DURATION.toNanos();
+
+        // 무효화된 목록 페이지를 조회가 다시 채우는 상황 재현
+        long refillIntervalNanos = TimeUnit.SECONDS.toNanos(1) / LIST_REFILLS_PER_SECOND;
+        executor.submit(() -> {
+            long next = System.nanoTime();
+            int page = 0;
+            while (System.nanoTime() < deadline) {
+                byte[] key = listKey(page++ % LIST_KEY_COUNT);
+                redisTemplate.execute((RedisCallback<Object>) connection ->
+                        connection.stringCommands().set(key, "{}".getBytes(StandardCharsets.UTF_8)));
+                next += refillIntervalNanos;
+                long sleep = next - System.nanoTime();
+                if (sleep > 0) {
+                    TimeUnit.NANOSECONDS.sleep(sleep);
+                }
+            }
+            return null;
+        });
+
+        for (int w = 0; w < workers; w++) {
+            executor.submit(() -> {
+                long next = System.nanoTime();
+                while (System.nanoTime() < deadline) {
+                    invalidation.run();
+                    next += intervalNanos;
+                    long sleep = next - System.nanoTime();
+                    if (sleep > 0) {
+                        TimeUnit.NANOSECONDS.sleep(sleep);
+                    }
+                }
+                return null;
+            });
+        }
+
+        TimeUnit.NANOSECONDS.sleep(DURATION.toNanos());
+        running.set(false);
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        return latencies;
+    }
+
+    private long percentile(List<Long> latencies, int percentile) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        Collections.sort(sorted);
+        int index = Math.min(sorted.size() - 1, (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1);
+        return sorted.get(Math.max(index, 0));
+    }
+}
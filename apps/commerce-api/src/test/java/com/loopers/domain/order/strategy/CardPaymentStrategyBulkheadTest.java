@@ -0,0 +1,64 @@
+package com.loopers.domain.order.strategy;
+
+import com.loopers.infrastructure.pg.PgAsyncClient;
+import com.loopers.infrastructure.pg.PgConcurrencyLimiter;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class CardPaymentStrategyBulkheadTest {
+
+    @Autowired
+    private CardPaymentStrategy cardPaymentStrategy;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @MockitoBean
+    private PgAsyncClient pgAsyncClient;
+
+    private Bulkhead bulkhead;
+    private int acquired;
+
+    @BeforeEach
+    void setUp() {
+        bulkhead = bulkheadRegistry.bulkhead(PgConcurrencyLimiter.BULKHEAD);
+        acquired = 0;
+        while (bulkhead.tryAcquirePermission()) {
+            acquired++;
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (int i = 0; i < acquired; i++) {
+            bulkhead.onComplete();
+        }
+    }
+
+    @Test
+    @DisplayName("PG 벌크헤드가 가득 차면 fallback 이 삼키지 않고 예외를 던져 결제 보상으로 넘긴다")
+    void bulkheadFullTest() {
+        PaymentContext context = PaymentContext.forCardOnly(
+                1L, 100L, "user123", 10_000L, "SAMSUNG", "1234-5678-9814-1451"
+        );
+
+        assertThatThrownBy(() -> cardPaymentStrategy.executePayment(context))
+                .isInstanceOf(BulkheadFullException.class);
+
+        verify(pgAsyncClient, never()).requestPayment(any(), any());
+    }
+}
@@ -1,7 +1,7 @@
 package com.loopers.domain.order.strategy;
 
 import com.loopers.domain.order.PaymentDomainService;
-import com.loopers.infrastructure.pg.PgClient;
+import com.loopers.infrastructure.pg.PgAsyncClient;
 import com.loopers.infrastructure.pg.dto.PgPaymentRequest;
 import com.loopers.infrastructure.pg.dto.PgPaymentResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +12,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.concurrent.CompletableFuture;
+
 import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
@@ -23,7 +25,7 @@ import static org.mockito.Mockito.when;
 class CardPaymentStrategyTest {
 
     @Mock
-    private PgClient pgClient;
+    private PgAsyncClient pgAsyncClient;
 
     @Mock
     private PaymentDomainService paymentDomainService;
@@ -40,7 +42,7 @@ class CardPaymentStrategyTest {
 
     @BeforeEach
     void setUp() {
-        cardPaymentStrategy = new CardPaymentStrategy(pgClient, paymentDomainService);
+        cardPaymentStrategy = new CardPaymentStrategy(pgAsyncClient, paymentDomainService);
         ReflectionTestUtils.setField(cardPaymentStrategy, "callbackBaseUrl", "http://localhost:8080");
     }
 
@@ -53,8 +55,8 @@ class CardPaymentStrategyTest {
 
         PgPaymentResponse response = createSuccessResponse();
 
-        when(pgClient.requestPayment(eq(USER_ID), any(PgPaymentRequest.class)))
-            .thenReturn(response);
+        when(pgAsyncClient.requestPayment(eq(USER_ID), any(PgPaymentRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(response));
 
         cardPaymentStrategy.executePayment(context);
 
@@ -68,8 +70,8 @@ class CardPaymentStrategyTest {
             ORDER_ID, PAYMENT_ID, USER_ID, CARD_AMOUNT, CARD_TYPE, CARD_NO
         );
 
-        when(pgClient.requestPayment(eq(USER_ID), any(PgPaymentRequest.class)))
-            .thenThrow(new RuntimeException("PG connection failed"));
+        when(pgAsyncClient.requestPayment(eq(USER_ID), any(PgPaymentRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(new RuntimeException("PG connection failed")));
 
         assertThatThrownBy(() -> cardPaymentStrategy.executePayment(context))
             .isInstanceOf(RuntimeException.class)
@@ -77,15 +79,15 @@ class CardPaymentStrategyTest {
     }
 
     @Test
-    @DisplayName("PG 응답이 느려도 정상 처리됨 (타임아웃은 Feign 레벨에서 처리)")
+    @DisplayName("PG 응답이 느려도 정상 처리됨 (타임아웃은 HTTP 클라이언트 레벨에서 처리)")
     void test3() {
         PaymentContext context = PaymentContext.forCardOnly(
             ORDER_ID, PAYMENT_ID, USER_ID, CARD_AMOUNT, CARD_TYPE, CARD_NO
         );
 
         PgPaymentResponse response = createSuccessResponse();
-        when(pgClient.requestPayment(eq(USER_ID), any(PgPaymentRequest.class)))
-            .thenReturn(response);
+        when(pgAsyncClient.requestPayment(eq(USER_ID), any(PgPaymentRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(response));
 
         assertThatNoException().isThrownBy(() ->
             cardPaymentStrategy.executePayment(context)
@@ -101,8 +103,8 @@ class CardPaymentStrategyTest {
             ORDER_ID, PAYMENT_ID, USER_ID, CARD_AMOUNT, CARD_TYPE, CARD_NO
         );
 
-        when(pgClient.requestPayment(eq(USER_ID), any(PgPaymentRequest.class)))
-            .thenThrow(new RuntimeException("PG failure"));
+        when(pgAsyncClient.requestPayment(eq(USER_ID), any(PgPaymentRequest.class)))
+            .thenReturn(CompletableFuture.failedFuture(new RuntimeException("PG failure")));
 
         assertThatThrownBy(() -> cardPaymentStrategy.executePayment(context))
             .isInstanceOf(RuntimeException.class)
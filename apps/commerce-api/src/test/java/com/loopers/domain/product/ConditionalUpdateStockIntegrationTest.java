@@ -0,0 +1,173 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.product.event.StockDepletedEvent;
+import com.loopers.fixture.TestEventCaptor;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "stock.engine=conditional-update")
+@Import(TestEventCaptor.class)
+class ConditionalUpdateStockIntegrationTest {
+
+    @Autowired
+    private ProductDomainService productDomainService;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEventCaptor eventCaptor;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        eventCaptor.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("동시에 재고보다 많은 주문이 들어와도 재고만큼만 차감된다")
+    void conditionalUpdateTest1() throws InterruptedException {
+        Product product = productJpaRepository.save(Product.create("상품", "설명", 10_000L, 10L, 1L));
+        int threadCount = 20;
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            productDomainService.decreaseStock(product.getId(), 1L));
+                    successCount.incrementAndGet();
+                } catch (CoreException e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(10);
+        assertThat(failCount.get()).isEqualTo(10);
+        assertThat(productJpaRepository.findById(product.getId()).get().getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("재고가 0이 되면 품절 이벤트를 발행한다")
+    void conditionalUpdateTest2() {
+        Product product = productJpaRepository.save(Product.create("상품", "설명", 10_000L, 2L, 1L));
+
+        transactionTemplate.executeWithoutResult(status -> productDomainService.decreaseStock(product.getId(), 1L));
+        assertThat(eventCaptor.hasEventOfType(StockDepletedEvent.class)).isFalse();
+
+        transactionTemplate.executeWithoutResult(status -> productDomainService.decreaseStock(product.getId(), 1L));
+        assertThat(eventCaptor.countEventsOfType(StockDepletedEvent.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재고가 부족하면 예외가 발생하고 재고는 그대로다")
+    void conditionalUpdateTest3() {
+        Product product = productJpaRepository.save(Product.create("상품", "설명", 10_000L, 1L, 1L));
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                productDomainService.decreaseStock(product.getId(), 2L)))
+                .isInstanceOf(CoreException.class)
+                .hasMessageContaining("재고가 부족");
+
+        assertThat(productJpaRepository.findById(product.getId()).get().getStock()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("여러 상품을 한 번에 차감하고, 하나라도 부족하면 모두 롤백된다")
+    void conditionalUpdateTest4() {
+        Product first = productJpaRepository.save(Product.create("상품1", "설명", 10_000L, 5L, 1L));
+        Product second = productJpaRepository.save(Product.create("상품2", "설명", 10_000L, 1L, 1L));
+
+        List<Product> products = transactionTemplate.execute(status ->
+                productDomainService.decreaseStocks(Map.of(first.getId(), 2L, second.getId(), 1L)));
+
+        assertThat(products).extracting(Product::getId).containsExactly(first.getId(), second.getId());
+        assertThat(products).extracting(Product::getStock).containsExactly(3L, 0L);
+        assertThat(eventCaptor.countEventsOfType(StockDepletedEvent.class)).isEqualTo(1);
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                productDomainService.decreaseStocks(Map.of(first.getId(), 1L, second.getId(), 1L))))
+                .isInstanceOf(CoreException.class)
+                .hasMessageContaining("재고가 부족");
+
+        assertThat(productJpaRepository.findById(first.getId()).get().getStock()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("차감과 복구가 동시에 일어나도 복구가 유실되지 않는다")
+    void conditionalUpdateTest5() throws InterruptedException {
+        Product product = productJpaRepository.save(Product.create("상품", "설명", 10_000L, 100L, 1L));
+        int threadCount = 40;
+        AtomicInteger failCount = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            boolean release = i % 2 == 0;
+            executor.submit(() -> {
+                try {
+                    if (release) {
+                        productDomainService.increaseStock(product.getId(), 1L);
+                    } else {
+                        transactionTemplate.executeWithoutResult(status ->
+                                productDomainService.decreaseStock(product.getId(), 1L));
+                    }
+                } catch (RuntimeException e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        assertThat(failCount.get()).isZero();
+        assertThat(productJpaRepository.findById(product.getId()).get().getStock()).isEqualTo(100L);
+    }
+}
@@ -0,0 +1,164 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.product.event.StockDepletedEvent;
+import com.loopers.fixture.TestEventCaptor;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {"stock.engine=sharded", "stock.shard.count=4", "stock.shard.min-stock=100"})
+@Import(TestEventCaptor.class)
+class ShardedStockIntegrationTest {
+
+    @Autowired
+    private ProductDomainService productDomainService;
+
+    @Autowired
+    private ProductStockShardRepository productStockShardRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TestEventCaptor eventCaptor;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        eventCaptor.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("동시에 재고보다 많은 주문이 들어와도 샤드 합계만큼만 차감된다")
+    void shardedStockTest1() throws InterruptedException {
+        Product product = productJpaRepository.save(Product.create("상품", "설명", 10_000L, 200L, 1L));
+        int orderCount = 400;
+        AtomicInteger successCount = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch latch = new CountDownLatch(orderCount);
+
+        for (int i = 0; i < orderCount; i++) {
+            executor.submit(() -> {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            productDomainService.decreaseStock(product.getId(), 1L));
+                    successCount.incrementAndGet();
+                } catch (CoreException e) {
+                    // 재고 부족
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(200);
+        assertThat(productStockShardRepository.sumStock(product.getId())).contains(0L);
+        assertThat(productDomainService.getProduct(product.getId()).getStock()).isZero();
+        assertThat(eventCaptor.hasEventOfType(StockDepletedEvent.class)).isTrue();
+    }
+
+    @Test
+    @DisplayName("한 샤드로 감당할 수 없는 수량은 여러 샤드에서 나눠 차감한다")
+    void shardedStockTest2() {
+        Product product = productJpaRepository.save(Product.create("상품", "설명", 10_000L, 200L, 1L));
+
+        transactionTemplate.executeWithoutResult(status -> productDomainService.decreaseStock(product.getId(), 120L));
+
+        assertThat(productStockShardRepository.findByProductId(product.getId())).hasSize(4);
+        assertThat(productDomainService.getProduct(product.getId()).getStock()).isEqualTo(80L);
+    }
+
+    @Test
+    @DisplayName("샤드 합계보다 많이 주문하면 예외가 발생하고 재고는 그대로다")
+    void shardedStockTest3() {
+        Product product = productJpaRepository.save(Product.create("상품", "설명", 10_000L, 200L, 1L));
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                productDomainService.decreaseStock(product.getId(), 201L)))
+                .isInstanceOf(CoreException.class)
+                .hasMessageContaining("재고가 부족");
+
+        assertThat(productDomainService.getProduct(product.getId()).getStock()).isEqualTo(200L);
+    }
+
+    @Test
+    @DisplayName("기준 재고 미만의 상품은 샤드 없이 기존 조건부 차감을 쓴다")
+    void shardedStockTest4() {
+        Product product = productJpaRepository.save(Product.create("상품", "설명", 10_000L, 10L, 1L));
+
+        transactionTemplate.executeWithoutResult(status -> productDomainService.decreaseStock(product.getId(), 1L));
+
+        assertThat(productStockShardRepository.findByProductId(product.getId())).isEmpty();
+        assertThat(productJpaRepository.findById(product.getId()).get().getStock()).isEqualTo(9L);
+    }
+
+    @Test
+    @DisplayName("여러 샤드에 걸치는 수량을 동시에 주문해도 샤드 합계를 넘겨 차감하지 않는다")
+    void shardedStockTest5() throws InterruptedException {
+        Product product = productJpaRepository.save(Product.create("상품", "설명", 10_000L, 204L, 1L));
+        transactionTemplate.executeWithoutResult(status -> productDomainService.decreaseStock(product.getId(), 4L));
+
+        // 샤드 재고가 51개 이하라 60개 주문은 항상 여러 샤드에서 나눠 차감
+        int orderCount = 10;
+        AtomicInteger successCount = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(orderCount);
+        CountDownLatch latch = new CountDownLatch(orderCount);
+
+        for (int i = 0; i < orderCount; i++) {
+            executor.submit(() -> {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            productDomainService.decreaseStock(product.getId(), 60L));
+                    successCount.incrementAndGet();
+                } catch (CoreException e) {
+                    // 재고 부족
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(3);
+        assertThat(productStockShardRepository.sumStock(product.getId())).contains(20L);
+        assertThat(productStockShardRepository.findByProductId(product.getId()))
+                .allSatisfy(shard -> assertThat(shard.getStock()).isNotNegative());
+    }
+}
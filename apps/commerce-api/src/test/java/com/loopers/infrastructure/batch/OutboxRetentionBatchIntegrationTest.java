@@ -0,0 +1,63 @@
+package com.loopers.infrastructure.batch;
+
+import com.loopers.infrastructure.outbox.Outbox;
+import com.loopers.infrastructure.outbox.OutboxRepository;
+import com.loopers.infrastructure.outbox.OutboxStatus;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {"outbox.retention.retention-days=7", "outbox.retention.chunk-size=2", "outbox.retention.pause-ms=0"})
+class OutboxRetentionBatchIntegrationTest {
+
+    @Autowired
+    private OutboxRetentionBatch outboxRetentionBatch;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 PROCESSED 행만 chunk 단위로 나눠 모두 삭제한다")
+    void purgeProcessedOutboxTest1() {
+        for (int i = 0; i < 5; i++) {
+            save(OutboxStatus.PROCESSED, LocalDateTime.now().minusDays(8));
+        }
+        Outbox recent = save(OutboxStatus.PROCESSED, LocalDateTime.now().minusDays(1));
+        Outbox pending = save(OutboxStatus.PENDING, null);
+
+        int deleted = outboxRetentionBatch.purgeProcessedOutbox();
+
+        assertThat(deleted).isEqualTo(5);
+        assertThat(outboxRepository.findAll())
+                .extracting(Outbox::getId)
+                .containsExactlyInAnyOrder(recent.getId(), pending.getId());
+    }
+
+    private Outbox save(OutboxStatus status, LocalDateTime processedAt) {
+        Outbox outbox = outboxRepository.save(
+                Outbox.create("PRODUCT", "1", "ProductLikedEvent", "product-liked", "{\"productId\":1}"));
+        jdbcTemplate.update("UPDATE outbox SET status = ?, processed_at = ? WHERE id = ?",
+                status.name(), processedAt == null ? null : Timestamp.valueOf(processedAt), outbox.getId());
+        return outbox;
+    }
+}
@@ -0,0 +1,83 @@
+package com.loopers.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheExpirationPolicyTest {
+
+    @Test
+    @DisplayName("TTL 은 기본 TTL 이상, 기본 TTL * (1 + jitterRatio) 미만이다")
+    void nextTtlTest() {
+        CacheExpirationPolicy policy = new CacheExpirationPolicy(5, 0.1, true, 1.0, 0);
+
+        for (int i = 0; i < 100; i++) {
+            Duration ttl = policy.nextTtl();
+            assertThat(ttl).isBetween(Duration.ofMinutes(5), Duration.ofSeconds(330));
+        }
+    }
+
+    @Test
+    @DisplayName("만료까지 여유가 재계산 시간보다 훨씬 크면 조기 갱신하지 않는다")
+    void shouldRefreshEarlyTest1() {
+        CacheExpirationPolicy policy = new CacheExpirationPolicy(5, 0.1, true, 1.0, 0);
+        long now = 1_000_000L;
+
+        boolean refresh = policy.shouldRefreshEarly(10, now + 60_000, now, 0.5);
+
+        assertThat(refresh).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료가 재계산 시간 안쪽으로 다가오면 조기 갱신한다")
+    void shouldRefreshEarlyTest2() {
+        CacheExpirationPolicy policy = new CacheExpirationPolicy(5, 0.1, true, 1.0, 0);
+        long now = 1_000_000L;
+
+        // -100 * ln(0.5) ≈ 69ms 의 여유를 두고 갱신
+        boolean refresh = policy.shouldRefreshEarly(100, now + 50, now, 0.5);
+
+        assertThat(refresh).isTrue();
+    }
+
+    @Test
+    @DisplayName("조기 갱신이 비활성화되면 항상 false 를 반환한다")
+    void shouldRefreshEarlyTest3() {
+        CacheExpirationPolicy policy = new CacheExpirationPolicy(5, 0.1, false, 1.0, 0);
+        long now = 1_000_000L;
+
+        assertThat(policy.shouldRefreshEarly(100, now, now, 0.99)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재계산 시간이 수 ms 여도 최소 delta 덕분에 만료 수 초 전에 갱신이 시작된다")
+    void shouldRefreshEarlyTest4() {
+        // 최소 delta = 5분 * 0.05 = 15초
+        CacheExpirationPolicy policy = new CacheExpirationPolicy(5, 0.1, true, 1.0, 0.05);
+        long now = 1_000_000L;
+
+        // -15000 * ln(0.5) ≈ 10.4초의 여유를 두고 갱신
+        assertThat(policy.shouldRefreshEarly(3, now + 10_000, now, 0.5)).isTrue();
+        assertThat(policy.shouldRefreshEarly(3, now + 60_000, now, 0.5)).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료 5초 전 구간에서 요청 1,000건 중 상당수가 조기 갱신을 일으킨다")
+    void shouldRefreshEarlyTest5() {
+        CacheExpirationPolicy policy = new CacheExpirationPolicy(5, 0.1, true, 1.0, 0.05);
+        long now = System.currentTimeMillis();
+
+        long refreshed = 0;
+        for (int i = 0; i < 1_000; i++) {
+            if (policy.shouldRefreshEarly(3, now + 5_000)) {
+                refreshed++;
+            }
+        }
+
+        // 갱신 확률 = 1 - e^(-5000/15000) ≈ 28% → 1,000건 중 한 건도 안 걸릴 확률은 사실상 0
+        assertThat(refreshed).isGreaterThan(100);
+    }
+}
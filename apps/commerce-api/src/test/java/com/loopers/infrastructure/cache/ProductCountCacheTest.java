@@ -0,0 +1,63 @@
+package com.loopers.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCountCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Test
+    @DisplayName("캐시된 개수가 있으면 COUNT 쿼리 없이 반환한다")
+    void countCacheTest1() {
+        ProductCountCache countCache = new ProductCountCache(redisTemplate, "cached", 60);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("product:list:count:brand:1")).thenReturn("42");
+        AtomicInteger loadCount = new AtomicInteger();
+
+        long count = countCache.getCount(1L, () -> {
+            loadCount.incrementAndGet();
+            return 0L;
+        });
+
+        assertThat(count).isEqualTo(42L);
+        assertThat(loadCount.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시 미스면 COUNT 결과를 TTL 과 함께 저장한다")
+    void countCacheTest2() {
+        ProductCountCache countCache = new ProductCountCache(redisTemplate, "cached", 60);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        long count = countCache.getCount(null, () -> 100L);
+
+        assertThat(count).isEqualTo(100L);
+        verify(valueOperations).set("product:list:count:all", "100", Duration.ofSeconds(60));
+    }
+
+    @Test
+    @DisplayName("알 수 없는 모드는 EXACT 로 동작한다")
+    void countCacheTest3() {
+        ProductCountCache countCache = new ProductCountCache(redisTemplate, "unknown", 60);
+
+        assertThat(countCache.mode()).isEqualTo(ProductCountMode.EXACT);
+    }
+}
@@ -0,0 +1,70 @@
+package com.loopers.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductDetailNearCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductCacheMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new ProductCacheMetrics(meterRegistry);
+    }
+
+    private double count(String name, String... tags) {
+        return meterRegistry.counter(name, tags).count();
+    }
+
+    @Test
+    @DisplayName("저장된 상품은 L1에서 히트되고 hit 카운터가 증가한다")
+    void nearCacheTest1() {
+        ProductDetailNearCache nearCache = new ProductDetailNearCache(metrics, true, 100, 60);
+        ProductDetailCache detail = new ProductDetailCache();
+
+        nearCache.put(1L, detail);
+
+        assertThat(nearCache.get(1L)).containsSame(detail);
+        assertThat(count("product.cache.gets", "tier", "l1", "result", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화된 상품은 L1에서 미스되고 miss 카운터가 증가한다")
+    void nearCacheTest2() {
+        ProductDetailNearCache nearCache = new ProductDetailNearCache(metrics, true, 100, 60);
+        nearCache.put(1L, new ProductDetailCache());
+
+        nearCache.invalidate(1L);
+
+        assertThat(nearCache.get(1L)).isEmpty();
+        assertThat(count("product.cache.gets", "tier", "l1", "result", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 제거되고 eviction 카운터가 증가한다")
+    void nearCacheTest3() {
+        ProductDetailNearCache nearCache = new ProductDetailNearCache(metrics, true, 1, 60);
+
+        for (long id = 1; id <= 10; id++) {
+            nearCache.put(id, new ProductDetailCache());
+        }
+
+        assertThat(count("product.cache.evictions", "tier", "l1", "cause", "size")).isGreaterThan(0);
+    }
+
+    @Test
+    @DisplayName("비활성화되면 저장하지 않고 항상 미스를 반환한다")
+    void nearCacheTest4() {
+        ProductDetailNearCache nearCache = new ProductDetailNearCache(metrics, false, 100, 60);
+
+        nearCache.put(1L, new ProductDetailCache());
+
+        assertThat(nearCache.get(1L)).isEmpty();
+    }
+}
@@ -0,0 +1,111 @@
+package com.loopers.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SingleFlightCacheLoaderTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Test
+    @DisplayName("같은 키로 동시에 미스가 나면 로더는 한 번만 실행되고 모두 같은 결과를 받는다")
+    void singleFlightTest1() throws Exception {
+        SingleFlightCacheLoader loader = new SingleFlightCacheLoader(redisTemplate, false, 3000, 300);
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        int threadCount = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<String>> results = new ArrayList<>();
+
+        results.add(executor.submit(() -> loader.load("product:detail:1", Optional::empty, () -> {
+            loadCount.incrementAndGet();
+            loading.countDown();
+            awaitQuietly(release);
+            return "loaded";
+        })));
+        loading.await(5, TimeUnit.SECONDS);
+
+        for (int i = 1; i < threadCount; i++) {
+            results.add(executor.submit(() -> loader.load("product:detail:1", Optional::empty, () -> {
+                loadCount.incrementAndGet();
+                return "loaded";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+        }
+        assertThat(loadCount.get()).isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("로더가 실패하면 예외를 그대로 던지고 다음 요청은 다시 적재한다")
+    void singleFlightTest2() {
+        SingleFlightCacheLoader loader = new SingleFlightCacheLoader(redisTemplate, false, 3000, 300);
+
+        assertThatThrownBy(() -> loader.load("product:detail:1", Optional::empty, () -> {
+            throw new IllegalStateException("db error");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(loader.load("product:detail:1", Optional::empty, () -> "loaded")).isEqualTo("loaded");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 분산 락을 잡고 있으면 캐시가 채워지길 기다렸다가 캐시 값을 반환한다")
+    void singleFlightTest3() {
+        SingleFlightCacheLoader loader = new SingleFlightCacheLoader(redisTemplate, true, 3000, 300);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("lock:product:detail:1"), anyString(), any(Duration.class)))
+                .thenReturn(false);
+        AtomicInteger readCount = new AtomicInteger();
+
+        String result = loader.load(
+                "product:detail:1",
+                () -> readCount.incrementAndGet() >= 2 ? Optional.of("cached") : Optional.empty(),
+                () -> "loaded"
+        );
+
+        assertThat(result).isEqualTo("cached");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -45,7 +45,7 @@ class StockDepletedConsumerTest {
         consumer.consume(event, "200", acknowledgment);
 
         verify(productCacheService).deleteProductDetail(1L);
-        verify(productCacheService).invalidateProductListCaches();
+        verify(productCacheService).invalidateProductListCachesContaining(1L);
         verify(eventHandledRepository).save(argThat(e -> e.getEventId().equals("200")));
         verify(acknowledgment).acknowledge();
     }
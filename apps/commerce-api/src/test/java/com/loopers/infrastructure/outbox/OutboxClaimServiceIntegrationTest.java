@@ -0,0 +1,174 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OutboxClaimServiceIntegrationTest {
+
+    @Autowired
+    private OutboxClaimService outboxClaimService;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("다른 워커가 점유한 aggregate 의 행은 가져가지 않아 워커끼리 적재분을 겹치지 않게 나눈다")
+    void claimTest1() {
+        Outbox first = save("1");
+        Outbox second = save("2");
+        Outbox sameAggregate = save("1");
+        Outbox third = save("3");
+
+        List<Outbox> claimedByA = outboxClaimService.claim("A", 2, 30);
+        List<Outbox> claimedByB = outboxClaimService.claim("B", 10, 30);
+
+        assertThat(claimedByA).extracting(Outbox::getId).containsExactly(first.getId(), second.getId());
+        assertThat(claimedByB).extracting(Outbox::getId).containsExactly(third.getId());
+        assertThat(outboxRepository.findById(sameAggregate.getId()).orElseThrow().getLeaseOwner()).isNull();
+    }
+
+    @Test
+    @DisplayName("점유가 만료되면 다른 워커가 다시 가져간다")
+    void claimTest2() {
+        Outbox outbox = save("1");
+        outboxClaimService.claim("A", 10, -1);
+
+        List<Outbox> claimed = outboxClaimService.claim("B", 10, 30);
+
+        assertThat(claimed).extracting(Outbox::getId).containsExactly(outbox.getId());
+        assertThat(claimed.get(0).getLeaseOwner()).isEqualTo("B");
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션이 잠근 행은 기다리지 않고 건너뛴다")
+    void claimTest3() {
+        Outbox locked = save("1");
+        Outbox free = save("2");
+
+        List<Outbox> claimedByB = transactionTemplate.execute(status -> {
+            List<Long> lockedIds = outboxRepository.findClaimableHeadIds(LocalDateTime.now(), 1);
+            assertThat(lockedIds).containsExactly(locked.getId());
+
+            return CompletableFuture.supplyAsync(() -> outboxClaimService.claim("B", 10, 30)).join();
+        });
+
+        assertThat(claimedByB).extracting(Outbox::getId).containsExactly(free.getId());
+    }
+
+    @Test
+    @DisplayName("발행 완료는 점유한 워커만 처리할 수 있다")
+    void claimTest4() {
+        Outbox outbox = save("1");
+        outboxClaimService.claim("A", 10, 30);
+
+        int updatedByOther = outboxRepository.markProcessed(List.of(outbox.getId()), "B", LocalDateTime.now());
+        int updatedByOwner = outboxRepository.markProcessed(List.of(outbox.getId()), "A", LocalDateTime.now());
+
+        assertThat(updatedByOther).isZero();
+        assertThat(updatedByOwner).isEqualTo(1);
+        assertThat(outboxRepository.findById(outbox.getId()).orElseThrow().getStatus()).isEqualTo(OutboxStatus.PROCESSED);
+    }
+
+    @Test
+    @DisplayName("다른 워커가 커밋 전에 잠근 aggregate 의 뒤 이벤트는 가져가지 않는다")
+    void claimTest5() {
+        Outbox first = save("1");
+        Outbox sameAggregate = save("1");
+        Outbox other = save("2");
+
+        List<Outbox> claimedByB = transactionTemplate.execute(status -> {
+            // 워커 A 가 aggregate 1 의 첫 이벤트를 잠그고 아직 점유를 커밋하지 않은 상태
+            List<Long> lockedByA = outboxRepository.findClaimableHeadIds(LocalDateTime.now(), 1);
+            assertThat(lockedByA).containsExactly(first.getId());
+
+            return CompletableFuture.supplyAsync(() -> outboxClaimService.claim("B", 10, 30)).join();
+        });
+
+        assertThat(claimedByB).extracting(Outbox::getId)
+                .containsExactly(other.getId())
+                .doesNotContain(sameAggregate.getId());
+    }
+
+    @Test
+    @DisplayName("두 워커가 동시에 점유를 반복해도 한 aggregate 의 이벤트를 동시에 나눠 갖지 않는다")
+    void claimTest6() throws Exception {
+        for (int i = 0; i < 60; i++) {
+            save(String.valueOf(i % 3));
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        CompletableFuture<List<Outbox>> claimedByA = CompletableFuture.supplyAsync(() -> claimAfter(start, "A"));
+        CompletableFuture<List<Outbox>> claimedByB = CompletableFuture.supplyAsync(() -> claimAfter(start, "B"));
+        start.countDown();
+
+        Set<String> aggregatesOfA = claimedByA.get(10, TimeUnit.SECONDS).stream()
+                .map(Outbox::getAggregateId).collect(Collectors.toSet());
+        Set<String> aggregatesOfB = claimedByB.get(10, TimeUnit.SECONDS).stream()
+                .map(Outbox::getAggregateId).collect(Collectors.toSet());
+
+        assertThat(aggregatesOfA).doesNotContainAnyElementsOf(aggregatesOfB);
+        assertThat(claimedByA.get().size() + claimedByB.get().size()).isPositive();
+    }
+
+    @Test
+    @DisplayName("첫 이벤트를 점유한 워커는 같은 aggregate 의 뒤 이벤트까지 순서대로 가져간다")
+    void claimTest7() {
+        Outbox first = save("1");
+        Outbox second = save("1");
+        Outbox third = save("1");
+
+        List<Outbox> claimed = outboxClaimService.claim("A", 10, 30);
+
+        assertThat(claimed).extracting(Outbox::getId).containsExactly(first.getId(), second.getId(), third.getId());
+    }
+
+    private List<Outbox> claimAfter(CountDownLatch start, String owner) {
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        return outboxClaimService.claim(owner, 100, 30);
+    }
+
+    private Outbox save(String aggregateId) {
+        return outboxRepository.save(Outbox.create("PRODUCT", aggregateId, "ProductLikedEvent", "product-liked",
+                "{\"productId\":" + aggregateId + "}"));
+    }
+}
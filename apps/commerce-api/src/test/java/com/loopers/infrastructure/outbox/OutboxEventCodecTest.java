@@ -0,0 +1,68 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loopers.domain.like.event.ProductLikedEvent;
+import com.loopers.domain.order.event.OrderCompletedEvent;
+import com.loopers.domain.product.event.StockDepletedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboxEventCodecTest {
+
+    private final OutboxEventCodec outboxEventCodec = new OutboxEventCodec();
+
+    @Test
+    @DisplayName("인코딩한 이벤트를 디코딩하면 모든 필드가 그대로 복원된다")
+    void codecTest1() {
+        LocalDateTime occurredAt = LocalDateTime.of(2026, 10, 18, 12, 30, 15, 123_456_789);
+        OrderCompletedEvent event = OrderCompletedEvent.of(10L, "user1", 30_000L, 5_000L, 25_000L,
+                List.of(new OrderCompletedEvent.OrderItemInfo(1L, 2L), new OrderCompletedEvent.OrderItemInfo(2L, 1L)),
+                occurredAt);
+
+        OrderCompletedEvent decoded = outboxEventCodec.decode(outboxEventCodec.encode(event), OrderCompletedEvent.class);
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("좋아요, 재고 소진 이벤트도 복원되고 null 필드는 null 로 남는다")
+    void codecTest2() {
+        ProductLikedEvent liked = ProductLikedEvent.of(1L, null, false, LocalDateTime.of(2026, 1, 1, 0, 0));
+        StockDepletedEvent depleted = StockDepletedEvent.of(-3L, LocalDateTime.of(1999, 12, 31, 23, 59));
+
+        assertThat(outboxEventCodec.decode(outboxEventCodec.encode(liked), ProductLikedEvent.class))
+                .usingRecursiveComparison().isEqualTo(liked);
+        assertThat(outboxEventCodec.decode(outboxEventCodec.encode(depleted), StockDepletedEvent.class))
+                .usingRecursiveComparison().isEqualTo(depleted);
+    }
+
+    @Test
+    @DisplayName("바이너리 페이로드는 같은 이벤트의 JSON 보다 작다")
+    void codecTest3() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ProductLikedEvent event = ProductLikedEvent.liked(12_345L, 67_890L);
+
+        int binarySize = outboxEventCodec.encode(event).length;
+        int jsonSize = objectMapper.writeValueAsBytes(event).length;
+
+        assertThat(binarySize).isLessThan(jsonSize / 3);
+    }
+
+    @Test
+    @DisplayName("요청 타입과 다른 이벤트의 페이로드는 디코딩하지 않는다")
+    void codecTest4() {
+        byte[] payload = outboxEventCodec.encode(StockDepletedEvent.of(1L));
+
+        assertThatThrownBy(() -> outboxEventCodec.decode(payload, ProductLikedEvent.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -31,7 +31,8 @@ class OutboxEventHandlerTest {
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        outboxEventHandler = new OutboxEventHandler(outboxRepository, objectMapper);
+        outboxEventHandler = new OutboxEventHandler(outboxRepository, new OutboxRelaySignal(), objectMapper,
+                new OutboxEventCodec(), "json");
     }
 
     @Test
@@ -49,6 +50,27 @@ class OutboxEventHandlerTest {
         assertThat(saved.getAggregateId()).isEqualTo("1");
         assertThat(saved.getEventType()).isEqualTo("ProductLikedEvent");
         assertThat(saved.getTopic()).isEqualTo("product-liked");
+        assertThat(saved.getPartitionKey()).isEqualTo("1:100");
+        assertThat(saved.getPayloadFormat()).isEqualTo(OutboxPayloadFormat.JSON);
         assertThat(saved.getStatus()).isEqualTo(OutboxStatus.PENDING);
     }
+
+    @Test
+    @DisplayName("binary 설정이면 이벤트를 바이너리로 인코딩해 저장한다")
+    void handleProductLikedEventTest2() {
+        OutboxEventCodec codec = new OutboxEventCodec();
+        outboxEventHandler = new OutboxEventHandler(outboxRepository, new OutboxRelaySignal(), objectMapper, codec, "binary");
+        ProductLikedEvent event = ProductLikedEvent.liked(1L, 100L);
+
+        outboxEventHandler.handleProductLikedEvent(event);
+
+        ArgumentCaptor<Outbox> captor = ArgumentCaptor.forClass(Outbox.class);
+        verify(outboxRepository).save(captor.capture());
+
+        Outbox saved = captor.getValue();
+        assertThat(saved.getPayloadFormat()).isEqualTo(OutboxPayloadFormat.BINARY);
+        assertThat(saved.getPayload()).isNull();
+        assertThat(saved.getPartitionKey()).isEqualTo("1:100");
+        assertThat(codec.decode(saved.getBinaryPayload(), ProductLikedEvent.class).getUserId()).isEqualTo(100L);
+    }
 }
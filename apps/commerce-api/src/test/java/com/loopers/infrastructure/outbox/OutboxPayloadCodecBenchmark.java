@@ -0,0 +1,73 @@
+package com.loopers.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loopers.domain.order.event.OrderCompletedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Outbox 페이로드 인코딩별 크기와 인코딩/디코딩 시간 비교 (JSON vs OutboxEventCodec)
+ * <p>
+ * 실행: BENCHMARK=true ./gradlew :apps:commerce-api:test --tests "*OutboxPayloadCodecBenchmark"
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class OutboxPayloadCodecBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final OutboxEventCodec outboxEventCodec = new OutboxEventCodec();
+
+    @Test
+    @DisplayName("주문 완료 이벤트 JSON vs 바이너리")
+    void compareCodecs() throws Exception {
+        List<OrderCompletedEvent.OrderItemInfo> items = new ArrayList<>();
+        for (long i = 1; i <= 5; i++) {
+            items.add(new OrderCompletedEvent.OrderItemInfo(1_000L + i, i));
+        }
+        OrderCompletedEvent event = OrderCompletedEvent.of(123_456L, "user123", 150_000L, 10_000L, 140_000L,
+                items, LocalDateTime.now());
+
+        byte[] json = objectMapper.writeValueAsBytes(event);
+        byte[] binary = outboxEventCodec.encode(event);
+        log.info("[크기] JSON={} bytes, 바이너리={} bytes", json.length, binary.length);
+
+        for (int i = 0; i < WARMUP; i++) {
+            objectMapper.readValue(objectMapper.writeValueAsBytes(event), OrderCompletedEvent.class);
+            outboxEventCodec.decode(outboxEventCodec.encode(event), OrderCompletedEvent.class);
+        }
+
+        long[] jsonNanos = new long[ITERATIONS];
+        long[] binaryNanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            objectMapper.readValue(objectMapper.writeValueAsBytes(event), OrderCompletedEvent.class);
+            jsonNanos[i] = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            outboxEventCodec.decode(outboxEventCodec.encode(event), OrderCompletedEvent.class);
+            binaryNanos[i] = System.nanoTime() - start;
+        }
+
+        log.info("[JSON] 인코딩+디코딩 p50={}ns, p99={}ns", percentile(jsonNanos, 50), percentile(jsonNanos, 99));
+        log.info("[바이너리] 인코딩+디코딩 p50={}ns, p99={}ns", percentile(binaryNanos, 50), percentile(binaryNanos, 99));
+    }
+
+    private long percentile(long[] values, int percentile) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(percentile / 100.0 * sorted.length) - 1];
+    }
+}
@@ -0,0 +1,143 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.infrastructure.batch.OutboxRetentionBatch;
+import com.loopers.utils.DatabaseCleanUp;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 발행 완료 이력이 수백만 건 쌓여도 relay 조회 시간이 유지되는지 확인
+ * <p>
+ * PENDING 100건만 있을 때와 PROCESSED 이력 약 250만 건이 함께 있을 때, 그리고 정리 배치를 돌린 뒤의
+ * relay 조회(점유 쿼리, created_at 순 PENDING 조회) 지연을 비교합니다.
+ * <p>
+ * 실행: BENCHMARK=true ./gradlew :apps:commerce-api:test --tests "*OutboxQueryScaleBenchmark"
+ */
+@Slf4j
+@SpringBootTest(properties = {"outbox.retention.chunk-size=50000", "outbox.retention.max-chunks=1000", "outbox.retention.pause-ms=0"})
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class OutboxQueryScaleBenchmark {
+
+    private static final int PENDING_COUNT = 100;
+    private static final int HISTORY_SEED = 10_000;
+    private static final int HISTORY_DOUBLINGS = 8;
+    private static final int ITERATIONS = 200;
+    private static final long TOLERANCE_MICROS = 2_000;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private OutboxRetentionBatch outboxRetentionBatch;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("PROCESSED 이력 수백만 건이 있어도 relay 조회 p99 가 이력이 없을 때와 비슷하다")
+    void relayQueryStaysFlat() {
+        insertPending();
+        long baseline = measure();
+
+        insertHistory();
+        long withHistory = measure();
+
+        int purged = outboxRetentionBatch.purgeProcessedOutbox();
+        long afterPurge = measure();
+
+        log.info("relay 조회 p99: 이력 없음={}us, 이력 {}건={}us, 정리 후={}us",
+                baseline, purged, withHistory, afterPurge);
+
+        assertThat(purged).isEqualTo(HISTORY_SEED << HISTORY_DOUBLINGS);
+        assertThat(withHistory).isLessThanOrEqualTo(baseline * 3 + TOLERANCE_MICROS);
+        assertThat(afterPurge).isLessThanOrEqualTo(baseline * 3 + TOLERANCE_MICROS);
+    }
+
+    /**
+     * 점유 쿼리(잠금 후 롤백)와 created_at 순 PENDING 조회의 p99 (us)
+     */
+    private long measure() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Long> latencies = new ArrayList<>();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            transactionTemplate.executeWithoutResult(status -> {
+                outboxRepository.findClaimableHeadIds(LocalDateTime.now(), 100);
+                status.setRollbackOnly();
+            });
+            outboxRepository.findByStatusOrderByCreatedAtAsc(OutboxStatus.PENDING, PageRequest.of(0, 100));
+            latencies.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        }
+
+        Collections.sort(latencies);
+        return latencies.get((int) Math.ceil(0.99 * latencies.size()) - 1);
+    }
+
+    private void insertPending() {
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < PENDING_COUNT; i++) {
+            rows.add(new Object[]{String.valueOf(i), "PENDING", now, null});
+        }
+        insert(rows);
+    }
+
+    /**
+     * 보관 기간이 지난 PROCESSED 행을 시드로 넣고 INSERT ... SELECT 로 두 배씩 불림
+     */
+    private void insertHistory() {
+        Timestamp old = Timestamp.valueOf(LocalDateTime.now().minusDays(30));
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < HISTORY_SEED; i++) {
+            rows.add(new Object[]{String.valueOf(i % 1_000), "PROCESSED", old, old});
+        }
+        insert(rows);
+
+        for (int i = 0; i < HISTORY_DOUBLINGS; i++) {
+            jdbcTemplate.update("""
+                    INSERT INTO outbox (aggregate_type, aggregate_id, event_type, topic, payload, status, created_at, processed_at)
+                    SELECT aggregate_type, aggregate_id, event_type, topic, payload, status, created_at, processed_at
+                    FROM outbox
+                    WHERE status = 'PROCESSED'
+                    """);
+        }
+        jdbcTemplate.execute("ANALYZE TABLE outbox");
+    }
+
+    private void insert(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO outbox (aggregate_type, aggregate_id, event_type, topic, payload, status, created_at, processed_at)
+                VALUES ('PRODUCT', ?, 'ProductLikedEvent', 'product-liked', '{}', ?, ?, ?)
+                """, rows);
+    }
+}
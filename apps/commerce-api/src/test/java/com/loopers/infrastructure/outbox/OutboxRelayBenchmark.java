@@ -0,0 +1,113 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.utils.DatabaseCleanUp;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outbox 발행 방식별 처리량 비교 (events/sec)
+ * <p>
+ * - 건별: 이벤트마다 send().get() 후 save (기존 방식)
+ * - 일괄: 배치 전체를 비동기로 보내고 한꺼번에 기다린 뒤 UPDATE 한 번 (OutboxRelay.relay)
+ * <p>
+ * 로컬 Kafka(localhost:19092)가 필요합니다.
+ * 실행: BENCHMARK=true ./gradlew :apps:commerce-api:test --tests "*OutboxRelayBenchmark"
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class OutboxRelayBenchmark {
+
+    private static final int EVENT_COUNT = 5_000;
+    private static final int KEY_COUNT = 200;
+    private static final int BATCH_SIZE = 100;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private KafkaTemplate<Object, Object> kafkaTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("건별 동기 발행 vs 배치 비동기 발행 + 일괄 UPDATE")
+    void compareRelayThroughput() throws Exception {
+        fillOutbox();
+        double sequential = measure(this::relaySequentially);
+
+        databaseCleanUp.truncateAllTables();
+        fillOutbox();
+        double pipelined = measure(outboxRelay::relay);
+
+        log.info("[건별] {} events/sec", String.format("%.1f", sequential));
+        log.info("[일괄] {} events/sec", String.format("%.1f", pipelined));
+    }
+
+    private double measure(ThrowingRunnable relay) throws Exception {
+        long start = System.nanoTime();
+        while (!outboxRepository.findByStatusOrderByCreatedAtAsc(OutboxStatus.PENDING, PageRequest.of(0, 1)).isEmpty()) {
+            relay.run();
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        assertThat(outboxRepository.count()).isEqualTo(EVENT_COUNT);
+        return EVENT_COUNT / elapsedSeconds;
+    }
+
+    /**
+     * 기존 방식: 건마다 브로커 응답을 기다리고 행을 하나씩 저장
+     */
+    private void relaySequentially() throws Exception {
+        List<Outbox> pendingList = outboxRepository.findByStatusOrderByCreatedAtAsc(
+                OutboxStatus.PENDING, PageRequest.of(0, BATCH_SIZE));
+
+        for (Outbox outbox : pendingList) {
+            ProducerRecord<Object, Object> record = new ProducerRecord<>(
+                    outbox.getTopic(), outbox.getAggregateId(), outbox.getPayload());
+            record.headers().add(OutboxRelay.HEADER_OUTBOX_ID, outbox.getId().toString().getBytes(StandardCharsets.UTF_8));
+
+            kafkaTemplate.send(record).get();
+            outbox.markProcessed();
+            outboxRepository.save(outbox);
+        }
+    }
+
+    private void fillOutbox() {
+        List<Outbox> outboxes = new ArrayList<>(EVENT_COUNT);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            long productId = i % KEY_COUNT + 1;
+            outboxes.add(Outbox.create("PRODUCT", String.valueOf(productId), "ProductLikedEvent", "product-liked",
+                    "{\"productId\":" + productId + ",\"userId\":\"user" + i + "\"}"));
+        }
+        outboxRepository.saveAll(outboxes);
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
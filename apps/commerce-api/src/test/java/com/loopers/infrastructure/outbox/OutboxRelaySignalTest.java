@@ -0,0 +1,43 @@
+package com.loopers.infrastructure.outbox;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxRelaySignalTest {
+
+    private final OutboxRelaySignal outboxRelaySignal = new OutboxRelaySignal();
+
+    @Test
+    @DisplayName("대기 중 신호가 오면 주기를 기다리지 않고 바로 깨어난다")
+    void awaitTest1() throws Exception {
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return outboxRelaySignal.await(5_000);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(50);
+
+        long start = System.nanoTime();
+        outboxRelaySignal.signal();
+
+        assertThat(waiting.get()).isTrue();
+        assertThat(System.nanoTime() - start).isLessThan(1_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("여러 번 보낸 신호는 한 번으로 합쳐진다")
+    void awaitTest2() throws InterruptedException {
+        outboxRelaySignal.signal();
+        outboxRelaySignal.signal();
+        outboxRelaySignal.signal();
+
+        assertThat(outboxRelaySignal.await(10)).isTrue();
+        assertThat(outboxRelaySignal.await(10)).isFalse();
+    }
+}
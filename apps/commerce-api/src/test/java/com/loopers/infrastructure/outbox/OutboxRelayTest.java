@@ -1,6 +1,6 @@
 package com.loopers.infrastructure.outbox;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,11 +9,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Pageable;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -21,41 +21,53 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class OutboxRelayTest {
 
+    @Mock
+    private OutboxClaimService outboxClaimService;
+
     @Mock
     private OutboxRepository outboxRepository;
 
     @Mock
     private KafkaTemplate<Object, Object> kafkaTemplate;
 
+    @Mock
+    private KafkaTemplate<String, byte[]> binaryKafkaTemplate;
+
     @Mock
     private SendResult<Object, Object> sendResult;
 
+    @Mock
+    private SendResult<String, byte[]> binarySendResult;
+
+    private static final String OWNER = "test#1";
+
     private OutboxRelay outboxRelay;
-    private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
-        objectMapper = new ObjectMapper();
-        outboxRelay = new OutboxRelay(outboxRepository, kafkaTemplate, objectMapper);
+        outboxRelay = new OutboxRelay(outboxClaimService, new OutboxRelaySignal(), outboxRepository, kafkaTemplate,
+                binaryKafkaTemplate, new SimpleMeterRegistry(), "test", 1, 100, 30, false, 10, 5000, false);
     }
 
     private Outbox createOutboxWithId(Long id) {
-        Outbox outbox = Outbox.create("PRODUCT", "1", "ProductLikedEvent", "catalog-events", "{\"productId\":1,\"userId\":100}");
+        Outbox outbox = Outbox.createJson("PRODUCT", "1", "1:100", "ProductLikedEvent", "catalog-events",
+                "{\"productId\":1,\"userId\":100}");
         ReflectionTestUtils.setField(outbox, "id", id);
         return outbox;
     }
 
     @Test
-    @DisplayName("PENDING 상태의 Outbox를 Kafka로 발행하고 PROCESSED로 변경한다")
+    @DisplayName("점유한 Outbox를 Kafka로 발행하고 한 번에 PROCESSED로 변경한다")
     void relayTest1() {
         Outbox outbox = createOutboxWithId(100L);
-        when(outboxRepository.findByStatusOrderByCreatedAtAsc(eq(OutboxStatus.PENDING), any(Pageable.class)))
+        when(outboxClaimService.claim(OWNER, 100, 30))
                 .thenReturn(List.of(outbox));
         when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(sendResult));
 
@@ -70,15 +82,15 @@ class OutboxRelayTest {
         assertThat(record.value()).isEqualTo("{\"productId\":1,\"userId\":100}");
         assertThat(record.headers().lastHeader(OutboxRelay.HEADER_OUTBOX_ID)).isNotNull();
         assertThat(new String(record.headers().lastHeader(OutboxRelay.HEADER_OUTBOX_ID).value())).isEqualTo("100");
+        assertThat(new String(record.headers().lastHeader(OutboxRelay.HEADER_PAYLOAD_FORMAT).value())).isEqualTo("JSON");
 
-        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PROCESSED);
-        verify(outboxRepository).save(outbox);
+        verify(outboxRepository).markProcessed(eq(List.of(100L)), eq(OWNER), any(LocalDateTime.class));
     }
 
     @Test
-    @DisplayName("PENDING 상태의 Outbox가 없으면 아무것도 하지 않는다")
+    @DisplayName("점유한 Outbox가 없으면 아무것도 하지 않는다")
     void relayTest2() {
-        when(outboxRepository.findByStatusOrderByCreatedAtAsc(eq(OutboxStatus.PENDING), any(Pageable.class)))
+        when(outboxClaimService.claim(OWNER, 100, 30))
                 .thenReturn(List.of());
 
         outboxRelay.relay();
@@ -87,16 +99,61 @@ class OutboxRelayTest {
     }
 
     @Test
-    @DisplayName("Kafka 발행 실패 시 상태를 변경하지 않는다")
+    @DisplayName("Kafka 발행 실패 시 상태를 변경하지 않고 점유를 푼다")
     void relayTest3() {
         Outbox outbox = createOutboxWithId(100L);
-        when(outboxRepository.findByStatusOrderByCreatedAtAsc(eq(OutboxStatus.PENDING), any(Pageable.class)))
+        when(outboxClaimService.claim(OWNER, 100, 30))
                 .thenReturn(List.of(outbox));
         when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka error")));
 
         outboxRelay.relay();
 
-        assertThat(outbox.getStatus()).isEqualTo(OutboxStatus.PENDING);
-        verify(outboxRepository, never()).save(any());
+        verify(outboxRepository, never()).markProcessed(any(), any(), any());
+        verify(outboxRepository).releaseLease(List.of(100L), OWNER);
+    }
+
+    @Test
+    @DisplayName("같은 파티션 키에서 발행이 실패하면 그 뒤 이벤트는 성공해도 PENDING으로 남긴다")
+    void relayTest4() {
+        Outbox failed = createOutboxWithId(1L);
+        Outbox sameKey = createOutboxWithId(2L);
+        Outbox otherKey = Outbox.createJson("PRODUCT", "2", "2:100", "ProductLikedEvent", "catalog-events",
+                "{\"productId\":2,\"userId\":100}");
+        ReflectionTestUtils.setField(otherKey, "id", 3L);
+        when(outboxClaimService.claim(OWNER, 100, 30))
+                .thenReturn(List.of(failed, sameKey, otherKey));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka error")))
+                .thenReturn(CompletableFuture.completedFuture(sendResult))
+                .thenReturn(CompletableFuture.completedFuture(sendResult));
+
+        outboxRelay.relay();
+
+        verify(kafkaTemplate, times(3)).send(any(ProducerRecord.class));
+        verify(outboxRepository).markProcessed(eq(List.of(3L)), eq(OWNER), any(LocalDateTime.class));
+        verify(outboxRepository).releaseLease(List.of(1L, 2L), OWNER);
+    }
+
+    @Test
+    @DisplayName("BINARY Outbox는 바이트 그대로 바이너리 템플릿으로 발행하고 payload-format 헤더를 붙인다")
+    void relayTest5() {
+        byte[] payload = {1, 1, 2, 3};
+        Outbox outbox = Outbox.createBinary("PRODUCT", "1", "1:100", "ProductLikedEvent", "catalog-events", payload);
+        ReflectionTestUtils.setField(outbox, "id", 100L);
+        when(outboxClaimService.claim(OWNER, 100, 30))
+                .thenReturn(List.of(outbox));
+        when(binaryKafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(binarySendResult));
+
+        outboxRelay.relay();
+
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(binaryKafkaTemplate).send(captor.capture());
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+
+        ProducerRecord<String, byte[]> record = captor.getValue();
+        assertThat(record.key()).isEqualTo("1:100");
+        assertThat(record.value()).isEqualTo(payload);
+        assertThat(new String(record.headers().lastHeader(OutboxRelay.HEADER_PAYLOAD_FORMAT).value())).isEqualTo("BINARY");
+        verify(outboxRepository).markProcessed(eq(List.of(100L)), eq(OWNER), any(LocalDateTime.class));
     }
 }
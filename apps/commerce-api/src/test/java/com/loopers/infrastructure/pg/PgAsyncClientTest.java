@@ -0,0 +1,88 @@
+package com.loopers.infrastructure.pg;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.infrastructure.pg.dto.PgPaymentRequest;
+import com.loopers.infrastructure.pg.dto.PgTransactionDetail;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PgAsyncClientTest {
+
+    private static final String TRANSACTION_JSON = """
+            {"meta":{"result":"SUCCESS"},"data":{"transactionKey":"20250816:TR:9577c5","orderId":"000001","status":"SUCCESS"}}
+            """;
+
+    private HttpServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private PgAsyncClient pgAsyncClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1/payments/", exchange -> respond(exchange, 200, TRANSACTION_JSON));
+        server.createContext("/api/v1/payments", exchange -> respond(exchange, 503, "unavailable"));
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        pgAsyncClient = new PgAsyncClient(new ObjectMapper(), meterRegistry,
+                "http://localhost:" + server.getAddress().getPort(), 1000, 3000, 4, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pgAsyncClient.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("거래 조회 응답을 비동기로 받아 역직렬화하고 지연 시간을 기록한다")
+    void pgAsyncClientTest1() {
+        PgTransactionDetail detail = pgAsyncClient.getTransaction("user1", "20250816:TR:9577c5").join();
+
+        assertThat(detail.getStatus()).isEqualTo("SUCCESS");
+        assertThat(detail.getOrderId()).isEqualTo("000001");
+        assertThat(meterRegistry.get("pg.client.requests")
+                .tag("endpoint", PgAsyncClient.ENDPOINT_GET_TRANSACTION)
+                .tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("pg.client.pool.max").gauge().value()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("PG 5xx 응답은 재시도 대상인 PgServerException 으로 끝난다")
+    void pgAsyncClientTest2() {
+        PgPaymentRequest request = PgPaymentRequest.builder()
+                .orderId("000001")
+                .cardType("SAMSUNG")
+                .cardNo("1234-5678-9814-1451")
+                .amount(10_000L)
+                .callbackUrl("http://localhost:8080/api/v1/payments/callback")
+                .build();
+
+        assertThatThrownBy(() -> PgAsyncClient.await(pgAsyncClient.requestPayment("user1", request)))
+                .isInstanceOf(PgServerException.class)
+                .hasMessageContaining("503");
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
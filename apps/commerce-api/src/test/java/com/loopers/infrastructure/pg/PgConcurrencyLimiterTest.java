@@ -0,0 +1,64 @@
+package com.loopers.infrastructure.pg;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PgConcurrencyLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Bulkhead bulkhead;
+    private PgConcurrencyLimiter pgConcurrencyLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(10)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        bulkhead = bulkheadRegistry.bulkhead(PgConcurrencyLimiter.BULKHEAD);
+        pgConcurrencyLimiter = new PgConcurrencyLimiter(bulkheadRegistry, meterRegistry, 2, 20, 500);
+    }
+
+    @Test
+    @DisplayName("PG 평균 지연이 목표보다 길면 벌크헤드 동시 호출 한도를 줄인다")
+    void adjustTest1() {
+        recordLatency(Duration.ofMillis(2_000));
+
+        pgConcurrencyLimiter.adjust();
+
+        assertThat(pgConcurrencyLimiter.getLimit()).isEqualTo(8);
+        assertThat(bulkhead.getBulkheadConfig().getMaxConcurrentCalls()).isEqualTo(8);
+        assertThat(meterRegistry.get("pg.bulkhead.limit").gauge().value()).isEqualTo(8.0);
+    }
+
+    @Test
+    @DisplayName("지연이 목표 이내인데 거절된 호출이 있으면 한도를 1 늘리고 거절 수를 기록한다")
+    void adjustTest2() {
+        for (int i = 0; i < 10; i++) {
+            bulkhead.tryAcquirePermission();
+        }
+        assertThat(bulkhead.tryAcquirePermission()).isFalse();
+        recordLatency(Duration.ofMillis(100));
+
+        pgConcurrencyLimiter.adjust();
+
+        assertThat(pgConcurrencyLimiter.getLimit()).isEqualTo(11);
+        assertThat(meterRegistry.get("pg.bulkhead.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    private void recordLatency(Duration latency) {
+        meterRegistry.timer(PgAsyncClient.REQUESTS,
+                        "endpoint", PgAsyncClient.ENDPOINT_GET_TRANSACTION, "outcome", "success")
+                .record(latency);
+    }
+}
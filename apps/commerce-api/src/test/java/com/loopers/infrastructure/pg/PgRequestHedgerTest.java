@@ -0,0 +1,75 @@
+package com.loopers.infrastructure.pg;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PgRequestHedgerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PgRequestHedger pgRequestHedger;
+
+    @AfterEach
+    void tearDown() {
+        pgRequestHedger.destroy();
+    }
+
+    @Test
+    @DisplayName("첫 요청이 지연 기준 안에 응답하지 않으면 헤지 요청을 보내고 먼저 온 응답을 쓴다")
+    void executeTest1() {
+        pgRequestHedger = new PgRequestHedger(meterRegistry, true, 95, 1.0, 10, 20, 100, false);
+        CompletableFuture<String> slow = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> result = pgRequestHedger.execute(() ->
+                calls.getAndIncrement() == 0 ? slow : CompletableFuture.completedFuture("hedged"));
+
+        assertThat(result.orTimeout(1, TimeUnit.SECONDS).join()).isEqualTo("hedged");
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("pg.hedge.issued").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("pg.hedge.won").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("첫 요청이 바로 응답하면 헤지 요청을 보내지 않는다")
+    void executeTest2() throws InterruptedException {
+        pgRequestHedger = new PgRequestHedger(meterRegistry, true, 95, 1.0, 10, 20, 100, false);
+        AtomicInteger calls = new AtomicInteger();
+
+        String value = pgRequestHedger.execute(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture("primary");
+        }).join();
+        Thread.sleep(50);
+
+        assertThat(value).isEqualTo("primary");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("pg.hedge.issued").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("헤지 예산이 없으면 헤지 요청 없이 첫 요청의 응답을 기다린다")
+    void executeTest3() throws InterruptedException {
+        pgRequestHedger = new PgRequestHedger(meterRegistry, true, 95, 0.0, 10, 20, 100, false);
+        CompletableFuture<String> slow = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> result = pgRequestHedger.execute(() -> {
+            calls.incrementAndGet();
+            return slow;
+        });
+        Thread.sleep(100);
+        slow.complete("primary");
+
+        assertThat(result.join()).isEqualTo("primary");
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("pg.hedge.throttled").counter().count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,93 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductSortType;
+import com.loopers.utils.DatabaseCleanUp;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 목록 조회 방식별 지연 시간 비교
+ * <p>
+ * data-init 프로필로 10만 건을 적재한 뒤, 같은 페이지를 두 방식으로 조회합니다.
+ * - ENTITY: 기존 방식 (Product 엔티티 Slice 조회)
+ * - PROJECTION: 커버링 인덱스로 id만 찾고 목록 컬럼만 DTO로 조회
+ * <p>
+ * 실행: BENCHMARK=true ./gradlew :apps:commerce-api:test --tests "*ProductListQueryBenchmark"
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles({"test", "data-init"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class ProductListQueryBenchmark {
+
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 200;
+    private static final int PAGE_SIZE = 20;
+    private static final int[] PAGES = {0, 100, 1_000};
+    private static final Long BRAND_ID = 1L;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterAll
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("엔티티 조회 vs 커버링 인덱스 프로젝션 조회")
+    void compareListQueries() {
+        for (ProductSortType sortType : ProductSortType.values()) {
+            for (int page : PAGES) {
+                List<Long> entity = measure(() -> productRepository.findSliceByBrandId(BRAND_ID, sortType, page, PAGE_SIZE));
+                List<Long> projection = measure(() -> productRepository.findListItems(BRAND_ID, sortType, page, PAGE_SIZE));
+
+                log.info("[{} page={}] ENTITY p50={}us p99={}us | PROJECTION p50={}us p99={}us",
+                        sortType, page,
+                        percentile(entity, 50), percentile(entity, 99),
+                        percentile(projection, 50), percentile(projection, 99));
+            }
+        }
+    }
+
+    private List<Long> measure(Runnable query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.run();
+        }
+
+        List<Long> latencies = new ArrayList<>();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            query.run();
+            latencies.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        }
+        return latencies;
+    }
+
+    private long percentile(List<Long> latencies, int percentile) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        Collections.sort(sorted);
+        int index = Math.min(sorted.size() - 1, (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1);
+        return sorted.get(Math.max(index, 0));
+    }
+}
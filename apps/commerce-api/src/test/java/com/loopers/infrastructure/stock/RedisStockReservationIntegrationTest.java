@@ -0,0 +1,122 @@
+package com.loopers.infrastructure.stock;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductDomainService;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "stock.engine=redis-reservation")
+class RedisStockReservationIntegrationTest {
+
+    @Autowired
+    private ProductDomainService productDomainService;
+
+    @Autowired
+    private StockReservationReconciler stockReservationReconciler;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        redisCleanUp.truncateAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("동시에 재고보다 많은 주문이 들어와도 재고만큼만 예약되고, 반영 후 DB 재고가 맞춰진다")
+    void reservationTest1() throws InterruptedException {
+        Product product = productJpaRepository.save(Product.create("상품", "설명", 10_000L, 10L, 1L));
+        int threadCount = 50;
+        AtomicInteger successCount = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            productDomainService.decreaseStock(product.getId(), 1L));
+                    successCount.incrementAndGet();
+                } catch (CoreException e) {
+                    // 재고 부족
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executor.shutdown();
+
+        assertThat(successCount.get()).isEqualTo(10);
+        assertThat(productJpaRepository.findById(product.getId()).get().getStock()).isEqualTo(10L);
+
+        stockReservationReconciler.reconcile();
+
+        assertThat(productJpaRepository.findById(product.getId()).get().getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("주문 트랜잭션이 롤백되면 예약이 반환된다")
+    void reservationTest2() {
+        Product product = productJpaRepository.save(Product.create("상품", "설명", 10_000L, 1L, 1L));
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            productDomainService.decreaseStock(product.getId(), 1L);
+            throw new IllegalStateException("order failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        transactionTemplate.executeWithoutResult(status -> productDomainService.decreaseStock(product.getId(), 1L));
+    }
+
+    @Test
+    @DisplayName("재고 복구 시 예약이 반환되고 DB 반영 후 재고가 원래대로 돌아온다")
+    void reservationTest3() {
+        Product product = productJpaRepository.save(Product.create("상품", "설명", 10_000L, 1L, 1L));
+        transactionTemplate.executeWithoutResult(status -> productDomainService.decreaseStock(product.getId(), 1L));
+        stockReservationReconciler.reconcile();
+
+        transactionTemplate.executeWithoutResult(status -> productDomainService.increaseStock(product.getId(), 1L));
+        stockReservationReconciler.reconcile();
+
+        assertThat(productJpaRepository.findById(product.getId()).get().getStock()).isEqualTo(1L);
+        transactionTemplate.executeWithoutResult(status -> productDomainService.decreaseStock(product.getId(), 1L));
+    }
+}
@@ -0,0 +1,64 @@
+package com.loopers.infrastructure.stock;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductDomainService;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "stock.engine=redis-reservation",
+        "scheduling.enabled=true",
+        "stock.reservation.reconcile-interval-ms=50"
+})
+class StockReservationReconcilerSchedulingTest {
+
+    @Autowired
+    private ProductDomainService productDomainService;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("reconcile 을 직접 호출하지 않아도 스케줄러가 예약분을 DB 재고에 반영한다")
+    void scheduledReconcileTest() throws InterruptedException {
+        Product product = productJpaRepository.save(Product.create("상품", "설명", 10_000L, 10L, 1L));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> productDomainService.decreaseStock(product.getId(), 3L));
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (currentStock(product) != 7L && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(currentStock(product)).isEqualTo(7L);
+    }
+
+    private long currentStock(Product product) {
+        return productJpaRepository.findById(product.getId()).orElseThrow().getStock();
+    }
+}
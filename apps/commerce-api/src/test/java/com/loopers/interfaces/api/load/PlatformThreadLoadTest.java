@@ -0,0 +1,19 @@
+package com.loopers.interfaces.api.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@DisplayName("부하 테스트 - 플랫폼 스레드 (Tomcat threads.max=200)")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=false"
+)
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class PlatformThreadLoadTest extends ThreadModelLoadTestSupport {
+
+    @Override
+    protected String threadModel() {
+        return "platform";
+    }
+}
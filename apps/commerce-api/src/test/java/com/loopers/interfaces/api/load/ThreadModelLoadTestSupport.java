@@ -0,0 +1,203 @@
+package com.loopers.interfaces.api.load;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.product.Product;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.cache.ProductCacheService;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스레드 모델별 API 부하 테스트 공통 시나리오
+ * <p>
+ * 상품 상세(캐시), 상품 목록(캐시), 커서 목록(DB 직접 조회)을 섞어 Tomcat 워커 수보다 많은 동시 요청을 보내고
+ * 처리량과 p50/p99 지연을 기록합니다. 실행 중에는 JFR jdk.VirtualThreadPinned 이벤트를 받아
+ * 가상 스레드가 캐리어에 고정된(synchronized 등) 위치를 호출 지점별로 집계합니다.
+ * <p>
+ * 실행: BENCHMARK=true ./gradlew :apps:commerce-api:test --tests "*ThreadLoadTest"
+ */
+@Slf4j
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+abstract class ThreadModelLoadTestSupport {
+
+    private static final int PRODUCT_COUNT = 100;
+    private static final int WARMUP_REQUESTS = 500;
+    private static final int REQUESTS = 6_000;
+    private static final int CONCURRENCY = 400;
+    private static final Duration PIN_THRESHOLD = Duration.ofMillis(1);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private ProductCacheService productCacheService;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final List<Long> productIds = new ArrayList<>();
+
+    protected abstract String threadModel();
+
+    @BeforeAll
+    void setUp() {
+        Brand brand = brandJpaRepository.save(Brand.create("부하테스트"));
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            Product product = productJpaRepository.save(
+                    Product.create("상품" + i, "설명", 1_000L * (i + 1), 1_000L, brand.getId()));
+            productIds.add(product.getId());
+        }
+    }
+
+    @AfterAll
+    void tearDown() {
+        productCacheService.clearAllProductCache();
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("상품 조회 API 처리량/p99 와 가상 스레드 피닝 위치")
+    void loadTest() throws InterruptedException {
+        run(WARMUP_REQUESTS);
+
+        Map<String, AtomicInteger> pinnedSites = new ConcurrentHashMap<>();
+        LoadResult result;
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(PIN_THRESHOLD).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", event ->
+                    pinnedSites.computeIfAbsent(pinnedSite(event), site -> new AtomicInteger()).incrementAndGet());
+            recording.startAsync();
+
+            result = run(REQUESTS);
+        }
+
+        log.info("[{}] requests={} errors={} throughput={} req/s p50={}ms p99={}ms",
+                threadModel(), REQUESTS, result.errors(), String.format("%.1f", result.throughput()),
+                percentile(result.latencies(), 50), percentile(result.latencies(), 99));
+
+        if (pinnedSites.isEmpty()) {
+            log.info("[{}] 피닝 이벤트 없음 (threshold={}ms)", threadModel(), PIN_THRESHOLD.toMillis());
+        }
+        pinnedSites.entrySet().stream()
+                .sorted((a, b) -> b.getValue().get() - a.getValue().get())
+                .forEach(entry -> log.info("[{}] pinned {}회: {}", threadModel(), entry.getValue().get(), entry.getKey()));
+
+        assertThat(result.errors()).isZero();
+    }
+
+    private LoadResult run(int requests) throws InterruptedException {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        CountDownLatch done = new CountDownLatch(requests);
+
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                URI uri = URI.create("http://localhost:" + port + path(i));
+                inFlight.acquire();
+                clients.execute(() -> {
+                    long requestStart = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = httpClient.send(
+                                HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requestStart));
+                        inFlight.release();
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        return new LoadResult(latencies, errors.get(), requests / elapsedSeconds);
+    }
+
+    private String path(int sequence) {
+        Long productId = productIds.get(sequence % productIds.size());
+        return switch (sequence % 3) {
+            case 0 -> "/api/v1/products/" + productId;
+            case 1 -> "/api/v1/products?page=" + (sequence % 5) + "&size=20";
+            default -> "/api/v1/products/cursor?sort=price_asc&size=20";
+        };
+    }
+
+    /**
+     * 피닝 스택에서 JDK 내부 프레임을 건너뛴 첫 호출 지점
+     */
+    private static String pinnedSite(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+            }
+        }
+        return "jdk-internal";
+    }
+
+    private static long percentile(List<Long> latencies, int percentile) {
+        List<Long> sorted = new ArrayList<>(latencies);
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        Collections.sort(sorted);
+        int index = Math.min(sorted.size() - 1, (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1);
+        return sorted.get(Math.max(index, 0));
+    }
+
+    private record LoadResult(List<Long> latencies, int errors, double throughput) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.interfaces.api.load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@DisplayName("부하 테스트 - 가상 스레드 (spring.threads.virtual.enabled=true)")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true"
+)
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class VirtualThreadLoadTest extends ThreadModelLoadTestSupport {
+
+    @Override
+    protected String threadModel() {
+        return "virtual";
+    }
+}
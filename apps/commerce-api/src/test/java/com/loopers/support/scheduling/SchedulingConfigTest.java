@@ -0,0 +1,52 @@
+package com.loopers.support.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.scheduling.config.ScheduledTaskHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주기 작업이 실제 스케줄러에 등록되는지 확인 (ScheduledTask 는 "클래스.메서드" 로 표시됨)
+ */
+@SpringBootTest(properties = "scheduling.enabled=true")
+class SchedulingConfigTest {
+
+    @Autowired
+    private ScheduledTaskHolder scheduledTaskHolder;
+
+    @Test
+    @DisplayName("PENDING 결제 대사 작업이 스케줄러에 등록된다")
+    void paymentReconcilerScheduledTest() {
+        assertThat(scheduledTasks()).anyMatch(task -> task.endsWith("PaymentReconciler.reconcile"));
+    }
+
+    @Test
+    @DisplayName("PG 벌크헤드 한도 조정 작업이 스케줄러에 등록된다")
+    void pgConcurrencyLimiterScheduledTest() {
+        assertThat(scheduledTasks()).anyMatch(task -> task.endsWith("PgConcurrencyLimiter.adjust"));
+    }
+
+    @Test
+    @DisplayName("처리 완료 Outbox 보관 정리 작업이 스케줄러에 등록된다")
+    void outboxRetentionBatchScheduledTest() {
+        assertThat(scheduledTasks()).anyMatch(task -> task.endsWith("OutboxRetentionBatch.purgeProcessedOutbox"));
+    }
+
+    @Test
+    @DisplayName("좋아요 수 정합성 배치는 설정으로 켜지 않으면 등록되지 않는다")
+    void productLikesConsistencyBatchNotScheduledTest() {
+        assertThat(scheduledTasks()).noneMatch(task -> task.contains("ProductLikesConsistencyBatch"));
+    }
+
+    private List<String> scheduledTasks() {
+        return scheduledTaskHolder.getScheduledTasks().stream()
+                .map(ScheduledTask::toString)
+                .toList();
+    }
+}